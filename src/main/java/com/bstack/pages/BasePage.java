@@ -1,14 +1,32 @@
 package com.bstack.pages;
 
+import org.openqa.selenium.JavascriptException;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.NoSuchElementException;
+import org.openqa.selenium.ScriptTimeoutException;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.TimeoutException;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
-import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.pagefactory.Annotations;
 import org.openqa.selenium.support.ui.WebDriverWait;
 import org.openqa.selenium.support.ui.ExpectedConditions;
 import org.openqa.selenium.By;
+import com.bstack.utils.ConfigReader;
+import com.bstack.utils.PerformanceRecorder;
+import com.bstack.utils.WaitHistory;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
 import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.Supplier;
 
 /**
  * Base Page class that contains common methods and properties
@@ -23,20 +41,137 @@ public abstract class BasePage {
     protected WebDriverWait wait;
     protected static final Logger logger = LogManager.getLogger(BasePage.class);
     
-    // Common timeout constants
-    protected static final int DEFAULT_TIMEOUT = 10;
-    protected static final int LONG_TIMEOUT = 30;
-    protected static final int SHORT_TIMEOUT = 5;
+    // Common timeout constants, derived from explicit.wait
+    protected static final int DEFAULT_TIMEOUT = ConfigReader.getExplicitWait();
+    protected static final int LONG_TIMEOUT = DEFAULT_TIMEOUT * 3;
+    protected static final int SHORT_TIMEOUT = Math.max(1, DEFAULT_TIMEOUT / 2);
+    private static final Duration DEFAULT_POLLING = Duration.ofMillis(500);
+    private static final long EVENT_WAIT_SLICE_MILLIS = 5000;
+    
+    // Event wait: evaluates the condition on every DOM mutation and readiness event and resolves
+    // the async script as soon as it holds, or with false once the slice ends. Resolves with
+    // 'detached' as soon as an element argument leaves the DOM (e.g. replaced by a re-render),
+    // because the condition can never hold for that node again
+    private static final String EVENT_WAIT_SCRIPT =
+            "var condition = new Function(arguments[0]), args = arguments[1], slice = arguments[2];" +
+            "var done = arguments[arguments.length - 1];" +
+            "function holds() { try { return condition.apply(null, args) === true; } catch (e) { return false; } }" +
+            "function detached() {" +
+            "  for (var i = 0; i < args.length; i++) {" +
+            "    if (args[i] instanceof Node && !args[i].isConnected) { return true; } }" +
+            "  return false; }" +
+            "if (holds()) { return done(true); }" +
+            "if (detached()) { return done('detached'); }" +
+            "var finished = false, observer, timer;" +
+            "function check() { if (finished) { return; }" +
+            "  if (holds()) { finish(true); } else if (detached()) { finish('detached'); } }" +
+            "function finish(result) {" +
+            "  finished = true; observer.disconnect(); clearTimeout(timer);" +
+            "  document.removeEventListener('readystatechange', check); window.removeEventListener('load', check);" +
+            "  done(result); }" +
+            "observer = new MutationObserver(check);" +
+            "observer.observe(document, { childList: true, subtree: true, attributes: true, characterData: true });" +
+            "document.addEventListener('readystatechange', check); window.addEventListener('load', check);" +
+            "timer = setTimeout(function() { finish(holds()); }, slice);";
+    
+    private static final String PAGE_LOADED_CONDITION = "document.readyState === 'complete'";
+    // Under eager/none loading the DOM must be parsed and, for none, the page navigated away from
+    // must be gone (navigateToUrl marks it) before the page readiness condition is checked
+    private static final String DOM_READY_CONDITION = "document.readyState !== 'loading' && !window.__pageLeaving";
+    private static final String MARK_PAGE_LEAVING_SCRIPT = "window.__pageLeaving = true;";
+    
+    private static final String ELEMENT_VISIBLE_SCRIPT =
+            "var element = arguments[0];" +
+            "return element.isConnected && element.getClientRects().length > 0 &&" +
+            "  window.getComputedStyle(element).visibility !== 'hidden';";
+    
+    private static final String ELEMENT_CLICKABLE_SCRIPT =
+            "var element = arguments[0];" +
+            "return element.isConnected && element.getClientRects().length > 0 &&" +
+            "  window.getComputedStyle(element).visibility !== 'hidden' && !element.disabled;";
+    
+    // Sets input values through the native setter so React sees the change, then fires input/change
+    private static final String FILL_INPUTS_SCRIPT =
+            "var values = arguments[0], failed = [];" +
+            "Object.keys(values).forEach(function(id) {" +
+            "  var input = document.getElementById(id);" +
+            "  if (!input || input.disabled || input.readOnly || input.getClientRects().length === 0) {" +
+            "    failed.push(id); return; }" +
+            "  var prototype = input instanceof HTMLTextAreaElement ? HTMLTextAreaElement.prototype : HTMLInputElement.prototype;" +
+            "  Object.getOwnPropertyDescriptor(prototype, 'value').set.call(input, values[id]);" +
+            "  input.dispatchEvent(new Event('input', { bubbles: true }));" +
+            "  input.dispatchEvent(new Event('change', { bubbles: true }));" +
+            "  if (input.value !== values[id]) { failed.push(id); }" +
+            "});" +
+            "return failed;";
+    
+    // Actionability engine: checks attached, visible, enabled, stable and not obscured in one async
+    // script call per polling attempt. It never acts itself: clicks and keystrokes stay native
+    // WebDriver input so the page receives trusted events, only the text action reads innerText.
+    // For cached element proxies it also checks that the locator still finds this element first
+    private static final String ACTIONABILITY_SCRIPT =
+            "var element = arguments[0], action = arguments[1], using = arguments[2], value = arguments[3];" +
+            "var done = arguments[arguments.length - 1];" +
+            "function describe(node) {" +
+            "  var name = node.tagName.toLowerCase() + (node.id ? '#' + node.id : '');" +
+            "  return typeof node.className === 'string' && node.className.trim() ?" +
+            "    name + '.' + node.className.trim().split(/\\s+/).join('.') : name; }" +
+            "function fail(reason) { done({ ok: false, reason: reason }); }" +
+            "if (!element.isConnected) { return fail('detached from the DOM'); }" +
+            "if (using) {" +
+            "  var first = using === 'xpath' ?" +
+            "    document.evaluate(value, document, null, XPathResult.FIRST_ORDERED_NODE_TYPE, null).singleNodeValue :" +
+            "    document.querySelector(value);" +
+            "  if (first !== element) {" +
+            "    return done({ ok: false, replaced: true, reason: 'replaced (the locator finds another element)' }); } }" +
+            "var option = element.tagName === 'OPTION' ? element.closest('select') : null;" +
+            "var target = option || element;" +
+            "if (target.getClientRects().length === 0 || window.getComputedStyle(target).visibility === 'hidden') {" +
+            "  return fail('not visible'); }" +
+            "if (action === 'text') { return done({ ok: true, value: element.innerText }); }" +
+            "if (target.disabled || element.disabled || target.getAttribute('aria-disabled') === 'true') {" +
+            "  return fail('disabled'); }" +
+            "if (action === 'type' && element.readOnly) { return fail('read-only'); }" +
+            "if (option) { return done({ ok: true }); }" +
+            "var frame = window.requestAnimationFrame || function(callback) { return setTimeout(callback, 16); };" +
+            "var before = element.getBoundingClientRect();" +
+            "frame(function() { frame(function() {" +
+            "  var rect = element.getBoundingClientRect();" +
+            "  if (!element.isConnected) { return fail('detached from the DOM'); }" +
+            "  if (rect.left !== before.left || rect.top !== before.top ||" +
+            "      rect.width !== before.width || rect.height !== before.height) {" +
+            "    return fail('not stable (moving or resizing)'); }" +
+            "  if (rect.top < 0 || rect.left < 0 || rect.bottom > window.innerHeight || rect.right > window.innerWidth) {" +
+            "    element.scrollIntoView({ block: 'center', inline: 'center' });" +
+            "    rect = element.getBoundingClientRect(); }" +
+            "  var hit = document.elementFromPoint(rect.left + rect.width / 2, rect.top + rect.height / 2);" +
+            "  if (hit !== element && !element.contains(hit)) {" +
+            "    return fail('obscured by ' + (hit ? describe(hit) : 'nothing at its center')); }" +
+            "  done({ ok: true });" +
+            "}); });";
+    
+    // WebElement fields per page class, used to key waits in the wait history
+    private static final Map<Class<?>, List<Field>> elementFields = new ConcurrentHashMap<>();
     
     /**
-     * Constructor to initialize WebDriver and PageFactory
+     * Constructor to initialize WebDriver and the element fields from the cached page metadata.
+     * Prefer PageObjectFactory.getPage(), which reuses the page instance per driver.
      * @param driver WebDriver instance
      */
     public BasePage(WebDriver driver) {
         this.driver = driver;
         this.wait = new WebDriverWait(driver, Duration.ofSeconds(DEFAULT_TIMEOUT));
-        PageFactory.initElements(driver, this);
-        logger.info("Initialized " + this.getClass().getSimpleName());
+        PageObjectFactory.initElements(driver, this);
+        logger.info("Initialized {}", this.getClass().getSimpleName());
+    }
+    
+    /**
+     * Get the page object of another page for the same driver
+     * @param pageClass Page class
+     * @return Page instance reused per driver
+     */
+    protected <T extends BasePage> T getPage(Class<T> pageClass) {
+        return PageObjectFactory.getPage(driver, pageClass);
     }
     
     /**
@@ -45,8 +180,11 @@ public abstract class BasePage {
      * @return WebElement that is now visible
      */
     protected WebElement waitForElementToBeVisible(WebElement element) {
-        logger.debug("Waiting for element to be visible: " + element.toString());
-        return wait.until(ExpectedConditions.visibilityOf(element));
+        logger.debug("Waiting for element to be visible: {}", element);
+        if (waitForElementEvent(element, ELEMENT_VISIBLE_SCRIPT)) {
+            return element;
+        }
+        return waitUntil(getWaitKey(element), ExpectedConditions.visibilityOf(element));
     }
     
     /**
@@ -55,8 +193,11 @@ public abstract class BasePage {
      * @return WebElement that is now clickable
      */
     protected WebElement waitForElementToBeClickable(WebElement element) {
-        logger.debug("Waiting for element to be clickable: " + element.toString());
-        return wait.until(ExpectedConditions.elementToBeClickable(element));
+        logger.debug("Waiting for element to be clickable: {}", element);
+        if (waitForElementEvent(element, ELEMENT_CLICKABLE_SCRIPT)) {
+            return element;
+        }
+        return waitUntil(getWaitKey(element), ExpectedConditions.elementToBeClickable(element));
     }
     
     /**
@@ -65,8 +206,252 @@ public abstract class BasePage {
      * @return WebElement that is now visible
      */
     protected WebElement waitForElementToBeVisible(By locator) {
-        logger.debug("Waiting for element to be visible: " + locator.toString());
-        return wait.until(ExpectedConditions.visibilityOfElementLocated(locator));
+        logger.debug("Waiting for element to be visible: {}", locator);
+        return waitUntil(getWaitKey(locator.toString()), ExpectedConditions.visibilityOfElementLocated(locator));
+    }
+    
+    /**
+     * Wait until a JavaScript condition returns true in the page
+     * @param description Human readable condition, used as wait history key and in logs, so it
+     *                    must not contain argument values
+     * @param script Script body that returns true once the condition holds
+     * @param args Script arguments (available as arguments[0..n])
+     */
+    protected void waitForCondition(String description, String script, Object... args) {
+        logger.debug("Waiting for condition: {} {}", description, Arrays.asList(args));
+        try {
+            waitForScript(getWaitKey(description), script, args);
+        } catch (TimeoutException e) {
+            logger.error("Timed out waiting for condition: {} {}", description, Arrays.asList(args));
+            throw new TimeoutException("Timed out waiting for " + description + " " + Arrays.asList(args), e);
+        }
+        PageObjectFactory.advanceEpoch(driver);
+        logger.debug("Condition met: {}", description);
+    }
+    
+    /**
+     * Wait until a script evaluates to a different value than before
+     * @param description Human readable condition, used in logs and timeout messages
+     * @param script Script body that returns the observed value
+     * @param previousValue Value observed before the change
+     */
+    protected void waitForValueToChange(String description, String script, Object previousValue) {
+        logger.debug("Waiting for change: {}", description);
+        try {
+            waitForScript(getWaitKey(description),
+                    "var current = (function() { " + script + " })();" +
+                    "return current !== null && current !== undefined && current !== arguments[0];",
+                    previousValue);
+        } catch (TimeoutException e) {
+            logger.error("Timed out waiting for change: {}", description);
+            throw new TimeoutException("Timed out waiting for " + description, e);
+        }
+        PageObjectFactory.advanceEpoch(driver);
+        logger.debug("Change observed: {}", description);
+    }
+    
+    /**
+     * Wait until a script returns true, using the event driven wait when wait.mode is event
+     * and polling otherwise
+     * @param waitKey Wait history key
+     * @param script Script body that returns true once the condition holds
+     * @param args Script arguments (available as arguments[0..n])
+     */
+    protected void waitForScript(String waitKey, String script, Object... args) {
+        if (ConfigReader.isEventWaitMode() && waitForEvent(waitKey, script, args)) {
+            return;
+        }
+        waitUntil(waitKey, webDriver -> Boolean.TRUE.equals(
+                ((JavascriptExecutor) webDriver).executeScript(script, args)));
+    }
+    
+    /**
+     * Block on async scripts that resolve when the condition holds after a DOM mutation or
+     * readiness event, so the driver is not polled while nothing changes
+     * @param waitKey Wait history key
+     * @param script Script body that returns true once the condition holds
+     * @param args Script arguments
+     * @return boolean true if the condition held, false if the page cannot run event waits or
+     *         an element argument left the DOM, the caller then polls instead
+     */
+    private boolean waitForEvent(String waitKey, String script, Object... args) {
+        Duration timeout = WaitHistory.getTimeout(waitKey, Duration.ofSeconds(DEFAULT_TIMEOUT));
+        long start = System.nanoTime();
+        long deadline = start + timeout.toNanos();
+        
+        while (true) {
+            long remainingMillis = (deadline - System.nanoTime()) / 1_000_000;
+            if (remainingMillis <= 0) {
+                WaitHistory.recordTimeout(waitKey, (System.nanoTime() - start) / 1_000_000);
+                throw new TimeoutException("Condition " + waitKey + " not met within " + timeout.toMillis() + " ms");
+            }
+            try {
+                Object result = ((JavascriptExecutor) driver).executeAsyncScript(EVENT_WAIT_SCRIPT,
+                        script, Arrays.asList(args), Math.min(remainingMillis, EVENT_WAIT_SLICE_MILLIS));
+                if (Boolean.TRUE.equals(result)) {
+                    WaitHistory.record(waitKey, (System.nanoTime() - start) / 1_000_000);
+                    return true;
+                }
+                if ("detached".equals(result)) {
+                    // The waited element was replaced, the polling wait resolves it again on every attempt
+                    logger.debug("Element of event wait {} left the DOM, polling instead", waitKey);
+                    PageObjectFactory.advanceEpoch(driver);
+                    return false;
+                }
+            } catch (ScriptTimeoutException e) {
+                logger.debug("Event wait slice for {} hit the script timeout, retrying", waitKey);
+            } catch (JavascriptException e) {
+                // Page navigated away during the wait or blocks eval through its content security policy
+                logger.debug("Event wait for {} not possible, polling instead: {}", waitKey, e.getMessage());
+                return false;
+            }
+        }
+    }
+    
+    /**
+     * Wait for an element state with the event driven wait
+     * @param element WebElement passed to the script as arguments[0]
+     * @param script Script body that returns true once the element is in the expected state
+     * @return boolean true if the state was reached, false if the caller has to poll instead
+     */
+    private boolean waitForElementEvent(WebElement element, String script) {
+        if (!ConfigReader.isEventWaitMode()) {
+            return false;
+        }
+        String waitKey = getWaitKey(element);
+        try {
+            // Resolve the element without the implicit wait: a missing element falls through to the
+            // polling wait at once instead of waiting out the implicit wait before its own timeout
+            return withImplicitWait(Duration.ZERO,
+                    () -> waitForEvent(waitKey != null ? waitKey : getWaitKey("element"), script, element));
+        } catch (NoSuchElementException | StaleElementReferenceException e) {
+            // The element is not in the DOM yet or was replaced, the polling wait keeps looking it up
+            PageObjectFactory.advanceEpoch(driver);
+            return false;
+        }
+    }
+    
+    /**
+     * Wait for a condition with the timeout and polling interval learned for the wait key,
+     * recording how long the wait took (or that it timed out)
+     * @param waitKey Wait history key, or null to use the default wait without recording
+     * @param condition Condition to wait for
+     * @return Condition result
+     */
+    protected <T> T waitUntil(String waitKey, Function<? super WebDriver, T> condition) {
+        if (waitKey == null) {
+            return wait.until(condition);
+        }
+        
+        Duration timeout = WaitHistory.getTimeout(waitKey, Duration.ofSeconds(DEFAULT_TIMEOUT));
+        Duration polling = WaitHistory.getPollingInterval(waitKey, DEFAULT_POLLING);
+        long start = System.nanoTime();
+        try {
+            T result = new WebDriverWait(driver, timeout, polling).until(condition);
+            WaitHistory.record(waitKey, (System.nanoTime() - start) / 1_000_000);
+            return result;
+        } catch (TimeoutException e) {
+            WaitHistory.recordTimeout(waitKey, (System.nanoTime() - start) / 1_000_000);
+            throw e;
+        }
+    }
+    
+    /**
+     * Get wait history key of a page element from the page field that holds it
+     * @param element WebElement to look up
+     * @return Key in the form PageClass.fieldName, or null if the element is not a page field
+     */
+    protected String getWaitKey(WebElement element) {
+        Field field = findField(element);
+        return field != null ? getWaitKey(field.getName()) : null;
+    }
+    
+    /**
+     * Get wait history key for a named wait on this page
+     * @param name Element, locator or condition name
+     * @return Key in the form PageClass.name
+     */
+    protected String getWaitKey(String name) {
+        return getClass().getSimpleName() + "." + name;
+    }
+    
+    /**
+     * Get the locator of a page element from the @FindBy annotation of the page field that holds it
+     * @param element WebElement page field
+     * @return By locator
+     */
+    protected By getLocator(WebElement element) {
+        Field field = findField(element);
+        if (field == null) {
+            throw new IllegalArgumentException("Element is not a field of " + getClass().getSimpleName());
+        }
+        return new Annotations(field).buildBy();
+    }
+    
+    /**
+     * Find the page field that holds an element
+     * @param element WebElement to look up
+     * @return Field or null if the element is not a page field
+     */
+    private Field findField(WebElement element) {
+        for (Field field : elementFields.computeIfAbsent(getClass(), BasePage::findElementFields)) {
+            try {
+                if (field.get(this) == element) {
+                    return field;
+                }
+            } catch (IllegalAccessException e) {
+                logger.debug("Cannot read field {} of {}", field.getName(), getClass().getSimpleName());
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Find the WebElement fields declared by a page class and its parents
+     * @param pageClass Page class
+     * @return Accessible WebElement fields
+     */
+    private static List<Field> findElementFields(Class<?> pageClass) {
+        List<Field> fields = new ArrayList<>();
+        for (Class<?> type = pageClass; type != null && type != BasePage.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (WebElement.class.isAssignableFrom(field.getType()) && !Modifier.isStatic(field.getModifiers())) {
+                    field.setAccessible(true);
+                    fields.add(field);
+                }
+            }
+        }
+        return fields;
+    }
+    
+    /**
+     * Fill several inputs in a single script execution, firing the input and change events
+     * frameworks like React listen to. Does not type keystrokes, so key handlers do not run.
+     * @param valuesById Values keyed by input element id
+     * @return boolean true if every input was found, editable and holds its value afterwards
+     */
+    @SuppressWarnings("unchecked")
+    protected boolean fillInputs(Map<String, String> valuesById) {
+        long start = System.nanoTime();
+        List<String> failed = (List<String>) executeScript(FILL_INPUTS_SCRIPT, valuesById);
+        PageObjectFactory.advanceEpoch(driver);
+        PerformanceRecorder.record(driver, () -> "fill " + getClass().getSimpleName() + " " + valuesById.keySet(), start);
+        if (!failed.isEmpty()) {
+            logger.warn("Batched fill could not set inputs: {}", failed);
+            return false;
+        }
+        logger.info("Filled {} inputs in one batch: {}", valuesById.size(), valuesById.keySet());
+        return true;
+    }
+    
+    /**
+     * Evaluate a script in the page
+     * @param script Script body with a return statement
+     * @param args Script arguments
+     * @return Script result
+     */
+    protected Object executeScript(String script, Object... args) {
+        return ((JavascriptExecutor) driver).executeScript(script, args);
     }
     
     /**
@@ -74,13 +459,21 @@ public abstract class BasePage {
      * @param element WebElement to click
      */
     protected void clickElement(WebElement element) {
+        long start = System.nanoTime();
         try {
-            waitForElementToBeClickable(element);
+            if (ConfigReader.isActionabilityEngineEnabled()) {
+                waitForActionable(element, "click");
+            } else {
+                waitForElementToBeClickable(element);
+            }
             element.click();
-            logger.info("Clicked on element: " + element.toString());
+            PerformanceRecorder.record(driver, () -> "click " + getWaitKey(element), start);
+            logger.debug("Clicked on element: {}", element);
         } catch (Exception e) {
-            logger.error("Failed to click on element: " + element.toString(), e);
+            logger.error("Failed to click on element: {}", element, e);
             throw e;
+        } finally {
+            PageObjectFactory.advanceEpoch(driver);
         }
     }
     
@@ -90,14 +483,22 @@ public abstract class BasePage {
      * @param text Text to enter
      */
     protected void enterText(WebElement element, String text) {
+        long start = System.nanoTime();
         try {
-            waitForElementToBeVisible(element);
+            if (ConfigReader.isActionabilityEngineEnabled()) {
+                waitForActionable(element, "type");
+            } else {
+                waitForElementToBeVisible(element);
+            }
             element.clear();
             element.sendKeys(text);
-            logger.info("Entered text '" + text + "' in element: " + element.toString());
+            PerformanceRecorder.record(driver, () -> "type " + getWaitKey(element), start);
+            logger.debug("Entered text '{}' in element: {}", text, element);
         } catch (Exception e) {
-            logger.error("Failed to enter text in element: " + element.toString(), e);
+            logger.error("Failed to enter text in element: {}", element, e);
             throw e;
+        } finally {
+            PageObjectFactory.advanceEpoch(driver);
         }
     }
     
@@ -108,16 +509,66 @@ public abstract class BasePage {
      */
     protected String getElementText(WebElement element) {
         try {
-            waitForElementToBeVisible(element);
-            String text = element.getText();
-            logger.info("Retrieved text '" + text + "' from element: " + element.toString());
+            String text;
+            if (ConfigReader.isActionabilityEngineEnabled()) {
+                text = String.valueOf(waitForActionable(element, "text"));
+            } else {
+                waitForElementToBeVisible(element);
+                text = element.getText();
+            }
+            logger.debug("Retrieved text '{}' from element: {}", text, element);
             return text;
         } catch (Exception e) {
-            logger.error("Failed to get text from element: " + element.toString(), e);
+            logger.error("Failed to get text from element: {}", element, e);
             throw e;
         }
     }
     
+    /**
+     * Wait until an element is actionable, checking everything in one script call per attempt.
+     * The caller performs the action itself with native WebDriver input
+     * @param element WebElement to check
+     * @param action click, type or text (read its rendered text)
+     * @return Element text for the text action, otherwise true
+     */
+    @SuppressWarnings("unchecked")
+    protected Object waitForActionable(WebElement element, String action) {
+        String[] reason = {"not checked"};
+        By.Remotable.Parameters locator = PageObjectFactory.getCachedLocator(element);
+        String using = locator != null ? locator.using() : null;
+        Object value = locator != null ? locator.value() : null;
+        try {
+            return waitUntil(getWaitKey(element), webDriver -> {
+                try {
+                    Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) webDriver)
+                            .executeAsyncScript(ACTIONABILITY_SCRIPT, element, action, using, value);
+                    if (Boolean.TRUE.equals(result.get("ok"))) {
+                        if (result.containsKey("value")) {
+                            return result.get("value");
+                        }
+                        // The native action reuses the element the script just checked
+                        PageObjectFactory.confirm(element);
+                        return Boolean.TRUE;
+                    }
+                    reason[0] = String.valueOf(result.get("reason"));
+                    if (Boolean.TRUE.equals(result.get("replaced"))) {
+                        PageObjectFactory.invalidate(element);
+                    }
+                } catch (NoSuchElementException e) {
+                    reason[0] = "not attached (no element matches the locator)";
+                } catch (StaleElementReferenceException e) {
+                    reason[0] = "detached from the DOM";
+                    PageObjectFactory.advanceEpoch(driver);
+                }
+                logger.debug("Element not actionable for {}: {}", action, reason[0]);
+                return null;
+            });
+        } catch (TimeoutException e) {
+            logger.error("Element not actionable for {}: {} ({})", action, reason[0], element);
+            throw new TimeoutException("Element not actionable for " + action + ": " + reason[0], e);
+        }
+    }
+    
     /**
      * Check if element is displayed
      * @param element WebElement to check
@@ -126,21 +577,83 @@ public abstract class BasePage {
     protected boolean isElementDisplayed(WebElement element) {
         try {
             boolean isDisplayed = element.isDisplayed();
-            logger.debug("Element display status: " + isDisplayed + " for element: " + element.toString());
+            logger.debug("Element display status: {} for element: {}", isDisplayed, element);
             return isDisplayed;
         } catch (Exception e) {
-            logger.debug("Element not found or not displayed: " + element.toString());
+            logger.debug("Element not found or not displayed: {}", element);
             return false;
         }
     }
     
+    /**
+     * Run an action with the implicit wait temporarily changed, restoring the configured value afterwards
+     * @param timeout Implicit wait to use during the action
+     * @param action Action to run
+     * @return Result of the action
+     */
+    protected <T> T withImplicitWait(Duration timeout, Supplier<T> action) {
+        driver.manage().timeouts().implicitlyWait(timeout);
+        try {
+            return action.get();
+        } finally {
+            driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(ConfigReader.getImplicitWait()));
+        }
+    }
+    
+    /**
+     * Check if element is displayed right now, without waiting for it to appear
+     * @param element WebElement to check
+     * @return boolean true if displayed, false otherwise
+     */
+    protected boolean isElementDisplayedNow(WebElement element) {
+        return withImplicitWait(Duration.ZERO, () -> isElementDisplayed(element));
+    }
+    
+    /**
+     * Check if any element matches the locator right now, without waiting for it to appear
+     * @param locator By locator
+     * @return boolean true if at least one element is present in the DOM
+     */
+    protected boolean isElementPresent(By locator) {
+        boolean isPresent = withImplicitWait(Duration.ZERO, () -> !driver.findElements(locator).isEmpty());
+        logger.debug("Element presence: {} for locator: {}", isPresent, locator);
+        return isPresent;
+    }
+    
+    /**
+     * Assert that an element is not displayed, failing immediately if it is
+     * @param element WebElement expected to be absent
+     * @param description Element description used in the failure message
+     */
+    protected void expectAbsent(WebElement element, String description) {
+        if (isElementDisplayedNow(element)) {
+            logger.error("Expected {} to be absent but it is displayed", description);
+            throw new AssertionError(description + " should not be displayed");
+        }
+        logger.debug("Verified {} is absent", description);
+    }
+    
+    /**
+     * Capture the rendered DOM with visibility flags in a single script execution
+     * so read-only checks can run locally
+     * @return DomSnapshot of the current page
+     */
+    @SuppressWarnings("unchecked")
+    public DomSnapshot captureDomSnapshot() {
+        Map<String, Object> capture = (Map<String, Object>) executeScript(DomSnapshot.CAPTURE_SCRIPT);
+        DomSnapshot snapshot = new DomSnapshot(String.valueOf(capture.get("url")),
+                String.valueOf(capture.get("title")), String.valueOf(capture.get("xml")));
+        logger.info("Captured DOM snapshot of {}", snapshot.getUrl());
+        return snapshot;
+    }
+    
     /**
      * Get current page title
      * @return String page title
      */
     protected String getPageTitle() {
         String title = driver.getTitle();
-        logger.info("Current page title: " + title);
+        logger.info("Current page title: {}", title);
         return title;
     }
     
@@ -150,7 +663,7 @@ public abstract class BasePage {
      */
     protected String getCurrentUrl() {
         String url = driver.getCurrentUrl();
-        logger.info("Current page URL: " + url);
+        logger.info("Current page URL: {}", url);
         return url;
     }
     
@@ -159,18 +672,39 @@ public abstract class BasePage {
      * @param url URL to navigate to
      */
     protected void navigateToUrl(String url) {
-        logger.info("Navigating to URL: " + url);
+        logger.info("Navigating to URL: {}", url);
+        long start = System.nanoTime();
+        if ("none".equalsIgnoreCase(ConfigReader.getPageLoadStrategy())) {
+            // driver.get may return before the new document replaces the current one
+            executeScript(MARK_PAGE_LEAVING_SCRIPT);
+        }
         driver.get(url);
+        PageObjectFactory.advanceEpoch(driver);
+        PerformanceRecorder.record(driver, () -> "navigate " + getClass().getSimpleName() + " " + url, start);
     }
     
     /**
-     * Wait for page to load completely
+     * Wait until the page is usable: the document has loaded as far as the page load strategy
+     * requires (complete for normal, parsed for eager and none) and the readiness condition of
+     * the page holds
      */
     protected void waitForPageLoad() {
-        wait.until(webDriver -> 
-            ((org.openqa.selenium.JavascriptExecutor) webDriver)
-                .executeScript("return document.readyState").equals("complete"));
-        logger.debug("Page loaded completely");
+        long start = System.nanoTime();
+        String documentCondition = "normal".equalsIgnoreCase(ConfigReader.getPageLoadStrategy())
+                ? PAGE_LOADED_CONDITION : DOM_READY_CONDITION;
+        waitForScript(getWaitKey("pageLoad"), "return " + documentCondition + " && (" + getReadinessCondition() + ");");
+        PageObjectFactory.advanceEpoch(driver);
+        PerformanceRecorder.record(driver, () -> "pageLoad " + getClass().getSimpleName(), start);
+        logger.debug("Page is ready");
+    }
+    
+    /**
+     * Get the JavaScript condition that tells when this page is usable, checked by waitForPageLoad
+     * once the document is ready. Pages override it with what their tests need rendered first.
+     * @return JavaScript boolean expression
+     */
+    protected String getReadinessCondition() {
+        return "true";
     }
     
     /**
@@ -178,8 +712,12 @@ public abstract class BasePage {
      * @param element WebElement to scroll to
      */
     protected void scrollToElement(WebElement element) {
-        ((org.openqa.selenium.JavascriptExecutor) driver)
-            .executeScript("arguments[0].scrollIntoView(true);", element);
-        logger.debug("Scrolled to element: " + element.toString());
+        try {
+            executeScript("arguments[0].scrollIntoView(true);", element);
+        } catch (StaleElementReferenceException e) {
+            PageObjectFactory.advanceEpoch(driver);
+            executeScript("arguments[0].scrollIntoView(true);", element);
+        }
+        logger.debug("Scrolled to element: {}", element);
     }
 }
\ No newline at end of file
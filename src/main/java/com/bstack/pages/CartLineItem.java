@@ -0,0 +1,65 @@
+package com.bstack.pages;
+
+import java.math.BigDecimal;
+
+/**
+ * Line item of the cart, captured as part of a CartSnapshot
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class CartLineItem {
+    
+    private final String title;
+    private final int quantity;
+    private final BigDecimal unitPrice;
+    
+    /**
+     * Constructor
+     * @param title Product title
+     * @param quantity Quantity of the product in the cart
+     * @param unitPrice Price of a single unit
+     */
+    public CartLineItem(String title, int quantity, BigDecimal unitPrice) {
+        this.title = title;
+        this.quantity = quantity;
+        this.unitPrice = unitPrice;
+    }
+    
+    /**
+     * Get product title
+     * @return String title
+     */
+    public String getTitle() {
+        return title;
+    }
+    
+    /**
+     * Get quantity of the product in the cart
+     * @return int quantity
+     */
+    public int getQuantity() {
+        return quantity;
+    }
+    
+    /**
+     * Get price of a single unit
+     * @return BigDecimal unit price
+     */
+    public BigDecimal getUnitPrice() {
+        return unitPrice;
+    }
+    
+    /**
+     * Get price of the line, unit price times quantity
+     * @return BigDecimal line total
+     */
+    public BigDecimal getLineTotal() {
+        return unitPrice.multiply(BigDecimal.valueOf(quantity));
+    }
+    
+    @Override
+    public String toString() {
+        return quantity + " x " + title + " ($" + unitPrice + ")";
+    }
+}
\ No newline at end of file
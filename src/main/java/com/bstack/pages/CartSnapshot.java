@@ -0,0 +1,114 @@
+package com.bstack.pages;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * In-memory snapshot of the cart captured in a single script execution: line items,
+ * the subtotal and total shown by the page, and a total computed locally with
+ * BigDecimal arithmetic to verify the displayed amounts against.
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class CartSnapshot {
+    
+    private final List<CartLineItem> lineItems;
+    private final BigDecimal subtotal;
+    private final BigDecimal total;
+    private final BigDecimal computedTotal;
+    private final int totalQuantity;
+    
+    /**
+     * Constructor
+     * @param lineItems Line items in cart order
+     * @param subtotal Subtotal shown by the page, or null if not shown
+     * @param total Total shown by the page, or null if not shown
+     */
+    public CartSnapshot(List<CartLineItem> lineItems, BigDecimal subtotal, BigDecimal total) {
+        this.lineItems = Collections.unmodifiableList(new ArrayList<>(lineItems));
+        this.subtotal = subtotal;
+        this.total = total;
+        
+        BigDecimal sum = BigDecimal.ZERO;
+        int quantity = 0;
+        for (CartLineItem lineItem : this.lineItems) {
+            sum = sum.add(lineItem.getLineTotal());
+            quantity += lineItem.getQuantity();
+        }
+        this.computedTotal = sum;
+        this.totalQuantity = quantity;
+    }
+    
+    /**
+     * Get all line items in cart order
+     * @return List of line items
+     */
+    public List<CartLineItem> getLineItems() {
+        return lineItems;
+    }
+    
+    /**
+     * Get number of distinct line items
+     * @return int line item count
+     */
+    public int getItemCount() {
+        return lineItems.size();
+    }
+    
+    /**
+     * Get number of units over all line items
+     * @return int total quantity
+     */
+    public int getTotalQuantity() {
+        return totalQuantity;
+    }
+    
+    /**
+     * Check if the cart has no line items
+     * @return boolean true if empty
+     */
+    public boolean isEmpty() {
+        return lineItems.isEmpty();
+    }
+    
+    /**
+     * Get subtotal shown by the page
+     * @return BigDecimal subtotal or null if not shown
+     */
+    public BigDecimal getSubtotal() {
+        return subtotal;
+    }
+    
+    /**
+     * Get total shown by the page
+     * @return BigDecimal total or null if not shown
+     */
+    public BigDecimal getTotal() {
+        return total;
+    }
+    
+    /**
+     * Get total computed from the line items
+     * @return BigDecimal sum of unit price times quantity
+     */
+    public BigDecimal getComputedTotal() {
+        return computedTotal;
+    }
+    
+    /**
+     * Check if the displayed subtotal equals the computed total
+     * @return boolean true if the subtotal is shown and matches
+     */
+    public boolean isSubtotalConsistent() {
+        return subtotal != null && subtotal.compareTo(computedTotal) == 0;
+    }
+    
+    @Override
+    public String toString() {
+        return lineItems.size() + " line items, " + totalQuantity + " units, subtotal " + subtotal
+                + ", total " + total + ", computed " + computedTotal;
+    }
+}
\ No newline at end of file
@@ -3,7 +3,13 @@ package com.bstack.pages;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import com.bstack.utils.ConfigReader;
+import java.math.BigDecimal;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Page Object Model for BStack Demo Checkout Page
@@ -79,6 +85,31 @@ public class CheckoutPage extends BasePage {
     @FindBy(className = "shelf-empty")
     private WebElement emptyCartMessage;
     
+    // Page state scripts used by the condition waits
+    private static final String ORDER_CONFIRMATION_VISIBLE_SCRIPT =
+            "var candidates = [document.getElementById('confirmation-message')," +
+            "  document.querySelector(\"div[class='optimizedCheckout-contentPrimary'] h1\")];" +
+            "return candidates.some(function(element) {" +
+            "  return element !== null && element.getClientRects().length > 0; });";
+    
+    private static final String CART_EMPTY_SCRIPT =
+            "return document.querySelector('.shelf-empty') !== null ||" +
+            "  document.querySelectorAll(\"div[class='float-cart__content'] div[class='shelf-item']\").length === 0;";
+    
+    private static final String CART_SNAPSHOT_SCRIPT =
+            "function text(root, selector) { var element = root.querySelector(selector);" +
+            "  return element ? element.textContent.trim() : ''; }" +
+            "var items = Array.prototype.map.call(" +
+            "  document.querySelectorAll(\"div[class='float-cart__content'] div[class='shelf-item']\"), function(item) {" +
+            "    var quantity = /Quantity:\\s*(\\d+)/i.exec(text(item, '.desc'));" +
+            "    return { title: text(item, '.title') || text(item, '.shelf-item__title')," +
+            "             quantity: quantity ? parseInt(quantity[1], 10) : 1," +
+            "             price: text(item, '.shelf-item__price') };" +
+            "  });" +
+            "var total = document.querySelector(\"p[class*='total-price'] > span\");" +
+            "return { items: items, subtotal: text(document, '.sub-price__val')," +
+            "         total: total ? total.textContent.trim() : '' };";
+    
     /**
      * Constructor
      * @param driver WebDriver instance
@@ -104,7 +135,7 @@ public class CheckoutPage extends BasePage {
      */
     public int getCartItemCount() {
         int count = cartItems.size();
-        logger.info("Number of items in cart: " + count);
+        logger.info("Number of items in cart: {}", count);
         return count;
     }
     
@@ -117,7 +148,7 @@ public class CheckoutPage extends BasePage {
         if (index < cartItemTitles.size()) {
             return getElementText(cartItemTitles.get(index));
         }
-        logger.error("Item index out of bounds: " + index);
+        logger.error("Item index out of bounds: {}", index);
         return "";
     }
     
@@ -130,10 +161,47 @@ public class CheckoutPage extends BasePage {
         if (index < cartItemPrices.size()) {
             return getElementText(cartItemPrices.get(index));
         }
-        logger.error("Item index out of bounds: " + index);
+        logger.error("Item index out of bounds: {}", index);
         return "";
     }
     
+    /**
+     * Capture all cart line items and amounts in a single script execution
+     * @return CartSnapshot with a locally computed total
+     */
+    @SuppressWarnings("unchecked")
+    public CartSnapshot getCartSnapshot() {
+        waitForElementToBeVisible(subtotalAmount);
+        Map<String, Object> cart = (Map<String, Object>) executeScript(CART_SNAPSHOT_SCRIPT);
+        List<Map<String, Object>> items = (List<Map<String, Object>>) cart.get("items");
+        
+        List<CartLineItem> lineItems = new ArrayList<>(items.size());
+        for (Map<String, Object> item : items) {
+            BigDecimal price = parseAmount(String.valueOf(item.get("price")));
+            if (price == null) {
+                logger.error("Cart item has no readable price: {}", item.get("title"));
+                throw new IllegalStateException("No price value found for cart item " + item.get("title"));
+            }
+            lineItems.add(new CartLineItem(String.valueOf(item.get("title")),
+                    ((Number) item.get("quantity")).intValue(), price));
+        }
+        CartSnapshot snapshot = new CartSnapshot(lineItems,
+                parseAmount(String.valueOf(cart.get("subtotal"))),
+                parseAmount(String.valueOf(cart.get("total"))));
+        logger.info("Captured cart snapshot: {}", snapshot);
+        return snapshot;
+    }
+    
+    /**
+     * Parse a displayed amount such as "$ 1,099.00"
+     * @param amount Displayed amount
+     * @return BigDecimal amount or null if the text is not a single decimal number
+     */
+    private static BigDecimal parseAmount(String amount) {
+        String digits = amount.replaceAll("[^0-9.]", "");
+        return digits.matches("[0-9]+(\\.[0-9]+)?") ? new BigDecimal(digits) : null;
+    }
+    
     /**
      * Remove item from cart by index
      * @param index Item index (0-based)
@@ -142,9 +210,9 @@ public class CheckoutPage extends BasePage {
     public CheckoutPage removeCartItem(int index) {
         if (index < removeItemButtons.size()) {
             clickElement(removeItemButtons.get(index));
-            logger.info("Removed item at index: " + index);
+            logger.info("Removed item at index: {}", index);
         } else {
-            logger.error("Remove button index out of bounds: " + index);
+            logger.error("Remove button index out of bounds: {}", index);
         }
         return this;
     }
@@ -182,7 +250,7 @@ public class CheckoutPage extends BasePage {
      */
     public CheckoutPage enterFirstName(String firstName) {
         enterText(firstNameInput, firstName);
-        logger.info("Entered first name: " + firstName);
+        logger.info("Entered first name: {}", firstName);
         return this;
     }
     
@@ -193,7 +261,7 @@ public class CheckoutPage extends BasePage {
      */
     public CheckoutPage enterLastName(String lastName) {
         enterText(lastNameInput, lastName);
-        logger.info("Entered last name: " + lastName);
+        logger.info("Entered last name: {}", lastName);
         return this;
     }
     
@@ -204,7 +272,7 @@ public class CheckoutPage extends BasePage {
      */
     public CheckoutPage enterAddress(String address) {
         enterText(addressLine1Input, address);
-        logger.info("Entered address: " + address);
+        logger.info("Entered address: {}", address);
         return this;
     }
     
@@ -215,7 +283,7 @@ public class CheckoutPage extends BasePage {
      */
     public CheckoutPage enterState(String state) {
         enterText(stateInput, state);
-        logger.info("Entered state: " + state);
+        logger.info("Entered state: {}", state);
         return this;
     }
     
@@ -226,12 +294,12 @@ public class CheckoutPage extends BasePage {
      */
     public CheckoutPage enterPostalCode(String postalCode) {
         enterText(postalCodeInput, postalCode);
-        logger.info("Entered postal code: " + postalCode);
+        logger.info("Entered postal code: {}", postalCode);
         return this;
     }
     
     /**
-     * Fill complete checkout form
+     * Fill complete checkout form, in one batch when checkout.fast.fill is enabled
      * @param firstName First name
      * @param lastName Last name
      * @param address Address
@@ -241,6 +309,34 @@ public class CheckoutPage extends BasePage {
      */
     public CheckoutPage fillCheckoutForm(String firstName, String lastName, 
                                        String address, String state, String postalCode) {
+        if (ConfigReader.isCheckoutFastFillEnabled()) {
+            waitForElementToBeVisible(firstNameInput);
+            Map<String, String> values = new LinkedHashMap<>();
+            values.put("firstNameInput", firstName);
+            values.put("lastNameInput", lastName);
+            values.put("addressLine1Input", address);
+            values.put("provinceInput", state);
+            values.put("postCodeInput", postalCode);
+            if (fillInputs(values)) {
+                logger.info("Filled complete checkout form in one batch");
+                return this;
+            }
+            logger.warn("Batched checkout form fill failed, typing each field");
+        }
+        return typeCheckoutForm(firstName, lastName, address, state, postalCode);
+    }
+    
+    /**
+     * Fill complete checkout form by typing into each field, for tests that exercise keystroke behaviour
+     * @param firstName First name
+     * @param lastName Last name
+     * @param address Address
+     * @param state State
+     * @param postalCode Postal code
+     * @return CheckoutPage instance for method chaining
+     */
+    public CheckoutPage typeCheckoutForm(String firstName, String lastName, 
+                                       String address, String state, String postalCode) {
         enterFirstName(firstName);
         enterLastName(lastName);
         enterAddress(address);
@@ -283,8 +379,17 @@ public class CheckoutPage extends BasePage {
      * @return boolean true if order confirmation is displayed
      */
     public boolean isOrderConfirmationDisplayed() {
-        return isElementDisplayed(confirmationMessage) || 
-               isElementDisplayed(orderConfirmationHeader);
+        return isElementDisplayedNow(confirmationMessage) || 
+               isElementDisplayedNow(orderConfirmationHeader);
+    }
+    
+    /**
+     * Wait until the order confirmation is visible
+     * @return CheckoutPage instance for method chaining
+     */
+    public CheckoutPage waitForOrderConfirmation() {
+        waitForCondition("order confirmation to be visible", ORDER_CONFIRMATION_VISIBLE_SCRIPT);
+        return this;
     }
     
     /**
@@ -292,7 +397,7 @@ public class CheckoutPage extends BasePage {
      * @return String confirmation message
      */
     public String getConfirmationMessage() {
-        if (isElementDisplayed(confirmationMessage)) {
+        if (isElementDisplayedNow(confirmationMessage)) {
             return getElementText(confirmationMessage);
         }
         return "";
@@ -303,7 +408,26 @@ public class CheckoutPage extends BasePage {
      * @return boolean true if cart is empty
      */
     public boolean isCartEmpty() {
-        return isElementDisplayed(emptyCartMessage) || cartItems.isEmpty();
+        return isElementDisplayedNow(emptyCartMessage) || 
+               withImplicitWait(Duration.ZERO, () -> cartItems.isEmpty());
+    }
+    
+    /**
+     * Wait until the cart has no items left
+     * @return CheckoutPage instance for method chaining
+     */
+    public CheckoutPage waitForCartToBeEmpty() {
+        waitForCondition("cart to be empty", CART_EMPTY_SCRIPT);
+        return this;
+    }
+    
+    /**
+     * Assert that the cart still has items
+     * @return CheckoutPage instance for method chaining
+     */
+    public CheckoutPage expectCartNotEmpty() {
+        expectAbsent(emptyCartMessage, "Empty cart message");
+        return this;
     }
     
     /**
@@ -313,7 +437,7 @@ public class CheckoutPage extends BasePage {
     public HomePage closeCartAndReturnHome() {
         clickElement(closeCartButton);
         logger.info("Closed cart");
-        return new HomePage(driver);
+        return getPage(HomePage.class);
     }
     
     /**
@@ -323,7 +447,7 @@ public class CheckoutPage extends BasePage {
     public HomePage returnToHome() {
         clickElement(homeLink);
         logger.info("Returned to home page");
-        return new HomePage(driver);
+        return getPage(HomePage.class);
     }
     
     /**
@@ -0,0 +1,464 @@
+package com.bstack.pages;
+
+import org.openqa.selenium.By;
+import org.w3c.dom.Document;
+import org.w3c.dom.Element;
+import org.w3c.dom.NodeList;
+import org.xml.sax.InputSource;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import javax.xml.XMLConstants;
+import javax.xml.parsers.DocumentBuilderFactory;
+import javax.xml.xpath.XPath;
+import javax.xml.xpath.XPathConstants;
+import javax.xml.xpath.XPathExpressionException;
+import javax.xml.xpath.XPathFactory;
+import java.io.StringReader;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Read-only snapshot of the rendered DOM, captured in one script execution with a computed
+ * visibility flag on every element. CSS, XPath and the other Selenium locators are evaluated
+ * locally in the JVM, so multi-assertion checks on a page that is not changing cost a single
+ * browser round trip. The snapshot does not follow later page changes.
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class DomSnapshot {
+    
+    private static final Logger logger = LogManager.getLogger(DomSnapshot.class);
+    
+    static final String VISIBLE_ATTRIBUTE = "data-snapshot-visible";
+    
+    // Clones the document, flags element visibility, drops scripts and attributes that are not
+    // valid XML names, and serializes the clone as XHTML
+    static final String CAPTURE_SCRIPT =
+            "var source = document.documentElement, clone = source.cloneNode(true);" +
+            "var originals = source.getElementsByTagName('*'), copies = clone.getElementsByTagName('*');" +
+            "function visible(element) {" +
+            "  if (element.checkVisibility) { return element.checkVisibility({ visibilityProperty: true }); }" +
+            "  return element.getClientRects().length > 0 && window.getComputedStyle(element).visibility !== 'hidden'; }" +
+            "clone.setAttribute('" + VISIBLE_ATTRIBUTE + "', 'true');" +
+            "for (var i = 0; i < originals.length; i++) {" +
+            "  copies[i].setAttribute('" + VISIBLE_ATTRIBUTE + "', String(visible(originals[i])));" +
+            "  for (var j = copies[i].attributes.length - 1; j >= 0; j--) {" +
+            "    var name = copies[i].attributes[j].name;" +
+            "    if (!/^[A-Za-z_][-A-Za-z0-9_.:]*$/.test(name)) { copies[i].removeAttribute(name); }" +
+            "  }" +
+            "}" +
+            "Array.prototype.slice.call(clone.querySelectorAll('script, style, noscript')).forEach(function(node) {" +
+            "  node.parentNode.removeChild(node); });" +
+            "return { url: location.href, title: document.title, xml: new XMLSerializer().serializeToString(clone) };";
+    
+    private final String url;
+    private final String title;
+    private final Document document;
+    private final XPath xpath = XPathFactory.newInstance().newXPath();
+    
+    /**
+     * Constructor
+     * @param url Page URL at capture time
+     * @param title Page title at capture time
+     * @param xml Serialized document
+     */
+    DomSnapshot(String url, String title, String xml) {
+        this.url = url;
+        this.title = title;
+        this.document = parse(xml);
+    }
+    
+    /**
+     * Get page URL at capture time
+     * @return String URL
+     */
+    public String getUrl() {
+        return url;
+    }
+    
+    /**
+     * Get page title at capture time
+     * @return String title
+     */
+    public String getTitle() {
+        return title;
+    }
+    
+    /**
+     * Find all elements matching the locator
+     * @param locator CSS, XPath, id, name, class name, tag name or link text locator
+     * @return List of matching elements in document order
+     */
+    public List<Element> findAll(By locator) {
+        return findAll(toXPath(locator));
+    }
+    
+    /**
+     * Find all elements matching an XPath expression
+     * @param expression XPath expression
+     * @return List of matching elements in document order
+     */
+    public List<Element> findAll(String expression) {
+        try {
+            NodeList nodes = (NodeList) xpath.evaluate(expression, document, XPathConstants.NODESET);
+            List<Element> elements = new ArrayList<>(nodes.getLength());
+            for (int i = 0; i < nodes.getLength(); i++) {
+                if (nodes.item(i) instanceof Element) {
+                    elements.add((Element) nodes.item(i));
+                }
+            }
+            return elements;
+        } catch (XPathExpressionException e) {
+            throw new IllegalArgumentException("Invalid XPath for DOM snapshot: " + expression, e);
+        }
+    }
+    
+    /**
+     * Get number of elements matching the locator
+     * @param locator Element locator
+     * @return int match count
+     */
+    public int count(By locator) {
+        return findAll(locator).size();
+    }
+    
+    /**
+     * Check if any element matches the locator
+     * @param locator Element locator
+     * @return boolean true if present
+     */
+    public boolean isPresent(By locator) {
+        return !findAll(locator).isEmpty();
+    }
+    
+    /**
+     * Check if the first element matching the locator was visible at capture time
+     * @param locator Element locator
+     * @return boolean true if present and visible
+     */
+    public boolean isDisplayed(By locator) {
+        List<Element> elements = findAll(locator);
+        return !elements.isEmpty() && isVisible(elements.get(0));
+    }
+    
+    /**
+     * Get normalized text of the first element matching the locator
+     * @param locator Element locator
+     * @return String text, empty if no element matches
+     */
+    public String getText(By locator) {
+        List<Element> elements = findAll(locator);
+        return elements.isEmpty() ? "" : getText(elements.get(0));
+    }
+    
+    /**
+     * Get normalized text of every element matching the locator
+     * @param locator Element locator
+     * @return List of texts in document order
+     */
+    public List<String> getTexts(By locator) {
+        List<String> texts = new ArrayList<>();
+        for (Element element : findAll(locator)) {
+            texts.add(getText(element));
+        }
+        return texts;
+    }
+    
+    /**
+     * Get an attribute of the first element matching the locator
+     * @param locator Element locator
+     * @param name Attribute name
+     * @return Attribute value, or null if no element matches or the attribute is missing
+     */
+    public String getAttribute(By locator, String name) {
+        List<Element> elements = findAll(locator);
+        return elements.isEmpty() || !elements.get(0).hasAttribute(name) ? null : elements.get(0).getAttribute(name);
+    }
+    
+    /**
+     * Check if an element was visible at capture time
+     * @param element Snapshot element
+     * @return boolean true if visible
+     */
+    public static boolean isVisible(Element element) {
+        return "true".equals(element.getAttribute(VISIBLE_ATTRIBUTE));
+    }
+    
+    /**
+     * Get text content of an element with whitespace collapsed
+     * @param element Snapshot element
+     * @return String normalized text
+     */
+    public static String getText(Element element) {
+        return element.getTextContent().replaceAll("[\\s\\u00A0]+", " ").trim();
+    }
+    
+    /**
+     * Translate a Selenium locator to an XPath expression
+     * @param locator Element locator
+     * @return XPath expression
+     */
+    static String toXPath(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            throw new IllegalArgumentException("Locator cannot be evaluated on a DOM snapshot: " + locator);
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        String value = String.valueOf(parameters.value());
+        switch (parameters.using()) {
+            case "xpath":
+                return value;
+            case "css selector":
+                return new CssToXPath(value).translate();
+            case "id":
+                return "//*[@id=" + CssToXPath.literal(value) + "]";
+            case "name":
+                return "//*[@name=" + CssToXPath.literal(value) + "]";
+            case "class name":
+                return "//*" + CssToXPath.classPredicate(value);
+            case "tag name":
+                return "//" + value;
+            case "link text":
+                return "//a[normalize-space(.)=" + CssToXPath.literal(value.trim()) + "]";
+            case "partial link text":
+                return "//a[contains(normalize-space(.), " + CssToXPath.literal(value) + ")]";
+            default:
+                throw new IllegalArgumentException("Unsupported locator strategy for DOM snapshot: " + parameters.using());
+        }
+    }
+    
+    /**
+     * Parse the serialized document without resolving any external resources
+     * @param xml Serialized document
+     * @return Parsed document
+     */
+    private static Document parse(String xml) {
+        try {
+            DocumentBuilderFactory factory = DocumentBuilderFactory.newInstance();
+            factory.setNamespaceAware(false);
+            factory.setFeature("http://apache.org/xml/features/disallow-doctype-decl", true);
+            factory.setAttribute(XMLConstants.ACCESS_EXTERNAL_DTD, "");
+            factory.setExpandEntityReferences(false);
+            Document document = factory.newDocumentBuilder().parse(new InputSource(new StringReader(xml)));
+            logger.debug("Parsed DOM snapshot of {} characters", xml.length());
+            return document;
+        } catch (Exception e) {
+            throw new IllegalStateException("Failed to parse DOM snapshot", e);
+        }
+    }
+    
+    /**
+     * Translator for the CSS selector subset used by page objects: type, universal, id, class and
+     * attribute selectors, descendant, child and sibling combinators and selector groups.
+     * Pseudo-classes and pseudo-elements are rejected.
+     */
+    static class CssToXPath {
+        private final String selector;
+        private int position;
+        
+        /**
+         * Constructor
+         * @param selector CSS selector
+         */
+        CssToXPath(String selector) {
+            this.selector = selector.trim();
+        }
+        
+        /**
+         * Translate the selector
+         * @return Equivalent XPath expression
+         */
+        String translate() {
+            StringBuilder xpath = new StringBuilder("//");
+            String axis = "";
+            while (true) {
+                xpath.append(axis).append(compound());
+                boolean whitespace = skipWhitespace();
+                if (position >= selector.length()) {
+                    return xpath.toString();
+                }
+                char next = selector.charAt(position);
+                if (next == ',') {
+                    position++;
+                    skipWhitespace();
+                    xpath.append(" | //");
+                    axis = "";
+                } else if (next == '>') {
+                    position++;
+                    skipWhitespace();
+                    axis = "/";
+                } else if (next == '+') {
+                    position++;
+                    skipWhitespace();
+                    axis = "/following-sibling::*[1]/self::";
+                } else if (next == '~') {
+                    position++;
+                    skipWhitespace();
+                    axis = "/following-sibling::";
+                } else if (whitespace) {
+                    axis = "//";
+                } else {
+                    throw unsupported();
+                }
+            }
+        }
+        
+        private String compound() {
+            StringBuilder step = new StringBuilder();
+            boolean consumed = true;
+            if (position < selector.length() && selector.charAt(position) == '*') {
+                position++;
+                step.append('*');
+            } else if (position < selector.length() && isIdentifierStart(selector.charAt(position))) {
+                step.append(identifier().toLowerCase());
+            } else {
+                step.append('*');
+                consumed = false;
+            }
+            
+            while (position < selector.length()) {
+                char next = selector.charAt(position);
+                if (next == '#') {
+                    position++;
+                    step.append("[@id=").append(literal(identifier())).append(']');
+                } else if (next == '.') {
+                    position++;
+                    step.append(classPredicate(identifier()));
+                } else if (next == '[') {
+                    position++;
+                    step.append(attribute());
+                } else if (next == ':') {
+                    throw unsupported();
+                } else {
+                    break;
+                }
+                consumed = true;
+            }
+            if (!consumed) {
+                throw unsupported();
+            }
+            return step.toString();
+        }
+        
+        private String attribute() {
+            skipWhitespace();
+            String name = identifier();
+            skipWhitespace();
+            if (selector.charAt(position) == ']') {
+                position++;
+                return "[@" + name + "]";
+            }
+            
+            String operator = selector.charAt(position) == '=' ? "=" : selector.substring(position, position + 2);
+            position += operator.length();
+            skipWhitespace();
+            String value = attributeValue();
+            skipWhitespace();
+            if (position >= selector.length() || selector.charAt(position) != ']') {
+                throw unsupported();
+            }
+            position++;
+            
+            String attribute = "@" + name;
+            String literal = literal(value);
+            switch (operator) {
+                case "=":
+                    return "[" + attribute + "=" + literal + "]";
+                case "*=":
+                    return "[contains(" + attribute + ", " + literal + ")]";
+                case "^=":
+                    return "[starts-with(" + attribute + ", " + literal + ")]";
+                case "$=":
+                    return "[substring(" + attribute + ", string-length(" + attribute + ") - " + value.length()
+                            + " + 1) = " + literal + "]";
+                case "~=":
+                    return "[contains(concat(' ', normalize-space(" + attribute + "), ' '), " + literal(" " + value + " ") + ")]";
+                case "|=":
+                    return "[" + attribute + "=" + literal + " or starts-with(" + attribute + ", " + literal(value + "-") + ")]";
+                default:
+                    throw unsupported();
+            }
+        }
+        
+        private String attributeValue() {
+            char quote = selector.charAt(position);
+            if (quote != '\'' && quote != '"') {
+                return identifier();
+            }
+            int end = selector.indexOf(quote, position + 1);
+            if (end < 0) {
+                throw unsupported();
+            }
+            String value = selector.substring(position + 1, end);
+            position = end + 1;
+            return value;
+        }
+        
+        private String identifier() {
+            StringBuilder identifier = new StringBuilder();
+            while (position < selector.length()) {
+                char next = selector.charAt(position);
+                if (next == '\\') {
+                    position++;
+                    identifier.append(escape());
+                } else if (isIdentifierStart(next) || Character.isDigit(next) || next == '-') {
+                    identifier.append(next);
+                    position++;
+                } else {
+                    break;
+                }
+            }
+            if (identifier.length() == 0) {
+                throw unsupported();
+            }
+            return identifier.toString();
+        }
+        
+        private String escape() {
+            int start = position;
+            while (position < selector.length() && position - start < 6
+                    && Character.digit(selector.charAt(position), 16) >= 0) {
+                position++;
+            }
+            if (position == start) {
+                return String.valueOf(selector.charAt(position++));
+            }
+            int codePoint = Integer.parseInt(selector.substring(start, position), 16);
+            if (position < selector.length() && selector.charAt(position) == ' ') {
+                position++;
+            }
+            return new String(Character.toChars(codePoint));
+        }
+        
+        private boolean skipWhitespace() {
+            int start = position;
+            while (position < selector.length() && Character.isWhitespace(selector.charAt(position))) {
+                position++;
+            }
+            return position > start;
+        }
+        
+        private static boolean isIdentifierStart(char c) {
+            return Character.isLetter(c) || c == '_' || c > 0x7F;
+        }
+        
+        private IllegalArgumentException unsupported() {
+            return new IllegalArgumentException("Unsupported CSS selector for DOM snapshot at position "
+                    + position + ": " + selector);
+        }
+        
+        static String classPredicate(String className) {
+            return "[contains(concat(' ', normalize-space(@class), ' '), " + literal(" " + className + " ") + ")]";
+        }
+        
+        static String literal(String value) {
+            if (!value.contains("'")) {
+                return "'" + value + "'";
+            }
+            if (!value.contains("\"")) {
+                return "\"" + value + "\"";
+            }
+            return "concat('" + value.replace("'", "', \"'\", '") + "')";
+        }
+    }
+}
\ No newline at end of file
@@ -3,7 +3,10 @@ package com.bstack.pages;
 import org.openqa.selenium.WebDriver;
 import org.openqa.selenium.WebElement;
 import org.openqa.selenium.support.FindBy;
+import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 
 /**
  * Page Object Model for BStack Demo Home Page
@@ -77,6 +80,43 @@ public class HomePage extends BasePage {
     @FindBy(xpath = "//h2[text()='StackDemo']")
     private WebElement pageTitle;
     
+    // Page state scripts used by the condition waits
+    private static final String PRODUCT_LIST_SIGNATURE_SCRIPT =
+            "return Array.prototype.map.call(document.querySelectorAll(\"div[class='shelf-item']\"), " +
+            "function(item) { return item.id || item.textContent; }).join('|');";
+    
+    private static final String CART_QUANTITY_EQUALS_SCRIPT =
+            "var quantity = document.querySelector('.bag-quantity');" +
+            "return (quantity ? parseInt(quantity.textContent, 10) || 0 : 0) === arguments[0];";
+    
+    private static final String SORT_ORDER_APPLIED_SCRIPT =
+            "var ascending = arguments[0];" +
+            "var prices = Array.prototype.map.call(document.querySelectorAll(\"div[class='shelf-item'] .shelf-item__price\"), " +
+            "function(price) { var value = price.querySelector('.val');" +
+            "  var text = value ? value.textContent.replace(/[^0-9.]/g, '') : '';" +
+            "  return /^[0-9]+(\\.[0-9]+)?$/.test(text) ? parseFloat(text) : NaN; });" +
+            "if (prices.length === 0 || prices.some(isNaN)) { return false; }" +
+            "for (var i = 1; i < prices.length; i++) {" +
+            "  if (ascending ? prices[i] < prices[i - 1] : prices[i] > prices[i - 1]) { return false; }" +
+            "}" +
+            "return true;";
+    
+    private static final String PRODUCT_CATALOG_SCRIPT =
+            "return Array.prototype.map.call(document.querySelectorAll(\"div[class='shelf-item']\"), function(item) {" +
+            "  var title = item.querySelector('.shelf-item__title');" +
+            "  var price = item.querySelector('.shelf-item__price .val');" +
+            "  var amount = price ? price.textContent.replace(/[^0-9.]/g, '') : '';" +
+            "  var favourite = item.querySelector('.shelf-item__favourite, .shelf-stopper button');" +
+            "  var buy = item.querySelector('.shelf-item__buy-btn');" +
+            "  return {" +
+            "    id: item.id || ''," +
+            "    title: title ? title.textContent.trim() : ''," +
+            "    price: /^[0-9]+(\\.[0-9]+)?$/.test(amount) ? amount : null," +
+            "    favourite: !!favourite && (favourite.classList.contains('clicked') || favourite.getAttribute('aria-pressed') === 'true')," +
+            "    available: !!buy && !buy.disabled && buy.offsetParent !== null" +
+            "  };" +
+            "});";
+    
     /**
      * Constructor
      * @param driver WebDriver instance
@@ -85,6 +125,15 @@ public class HomePage extends BasePage {
         super(driver);
     }
     
+    /**
+     * Home page is usable once the React shelf has rendered its products
+     * @return JavaScript boolean expression
+     */
+    @Override
+    protected String getReadinessCondition() {
+        return "document.querySelector('.shelf-item') !== null";
+    }
+    
     /**
      * Navigate to home page
      * @return HomePage instance for method chaining
@@ -102,7 +151,18 @@ public class HomePage extends BasePage {
      */
     public boolean isUserLoggedIn() {
         boolean isLoggedIn = isElementDisplayed(loggedInUsername);
-        logger.info("User logged in: " + isLoggedIn);
+        logger.info("User logged in: {}", isLoggedIn);
+        return isLoggedIn;
+    }
+    
+    /**
+     * Check if user is logged in right now, without waiting for the username to appear.
+     * Use on a page that has finished loading, e.g. to detect an expired restored session
+     * @return boolean true if user is logged in
+     */
+    public boolean isUserLoggedInNow() {
+        boolean isLoggedIn = isElementDisplayedNow(loggedInUsername);
+        logger.info("User logged in: {}", isLoggedIn);
         return isLoggedIn;
     }
     
@@ -124,7 +184,7 @@ public class HomePage extends BasePage {
     public LoginPage logout() {
         clickElement(logoutButton);
         logger.info("Clicked logout button");
-        return new LoginPage(driver);
+        return getPage(LoginPage.class);
     }
     
     /**
@@ -159,7 +219,7 @@ public class HomePage extends BasePage {
      * @return int cart quantity
      */
     public int getCartQuantity() {
-        if (isElementDisplayed(cartQuantity)) {
+        if (isElementDisplayedNow(cartQuantity)) {
             String quantity = getElementText(cartQuantity);
             return Integer.parseInt(quantity);
         }
@@ -173,7 +233,7 @@ public class HomePage extends BasePage {
     public CheckoutPage goToCart() {
         clickElement(cartIcon);
         logger.info("Clicked on cart icon");
-        return new CheckoutPage(driver);
+        return getPage(CheckoutPage.class);
     }
     
     /**
@@ -264,17 +324,82 @@ public class HomePage extends BasePage {
      */
     public int getProductCount() {
         int count = productItems.size();
-        logger.info("Number of products displayed: " + count);
+        logger.info("Number of products displayed: {}", count);
         return count;
     }
     
+    /**
+     * Capture every product on the shelf in a single script execution
+     * @return ProductCatalog snapshot indexed by brand and price
+     */
+    @SuppressWarnings("unchecked")
+    public ProductCatalog getCatalog() {
+        List<Map<String, Object>> items = (List<Map<String, Object>>) executeScript(PRODUCT_CATALOG_SCRIPT);
+        List<Product> products = new ArrayList<>(items.size());
+        for (Map<String, Object> item : items) {
+            Object price = item.get("price");
+            if (price == null) {
+                // Only the .val node holds the price, the rest of the price block is installment text
+                logger.error("Shelf item has no readable price: {}", item.get("title"));
+                throw new IllegalStateException("No price value found for product " + item.get("title"));
+            }
+            products.add(new Product(
+                    String.valueOf(item.get("id")),
+                    String.valueOf(item.get("title")),
+                    new BigDecimal(price.toString()),
+                    Boolean.TRUE.equals(item.get("favourite")),
+                    Boolean.TRUE.equals(item.get("available"))));
+        }
+        ProductCatalog catalog = new ProductCatalog(products);
+        logger.info("Captured product catalog: {}", catalog);
+        return catalog;
+    }
+    
+    /**
+     * Get a signature of the products currently on the shelf, used to detect list changes
+     * @return String product list signature
+     */
+    public String getProductListSignature() {
+        return String.valueOf(executeScript(PRODUCT_LIST_SIGNATURE_SCRIPT));
+    }
+    
+    /**
+     * Wait until the product list differs from a previously captured signature
+     * @param previousSignature Signature captured before filtering
+     * @return HomePage instance for method chaining
+     */
+    public HomePage waitForProductListToChange(String previousSignature) {
+        waitForValueToChange("product list to change", PRODUCT_LIST_SIGNATURE_SCRIPT, previousSignature);
+        return this;
+    }
+    
+    /**
+     * Wait until the cart badge shows the expected quantity
+     * @param quantity Expected cart quantity
+     * @return HomePage instance for method chaining
+     */
+    public HomePage waitForCartQuantity(int quantity) {
+        waitForCondition("cart quantity to match", CART_QUANTITY_EQUALS_SCRIPT, quantity);
+        return this;
+    }
+    
+    /**
+     * Wait until the shelf is sorted by price
+     * @param ascending true for lowest to highest, false for highest to lowest
+     * @return HomePage instance for method chaining
+     */
+    public HomePage waitForSortOrder(boolean ascending) {
+        waitForCondition("products sorted by price", SORT_ORDER_APPLIED_SCRIPT, ascending);
+        return this;
+    }
+    
     /**
      * Check if home page is displayed
      * @return boolean true if home page is displayed
      */
     public boolean isHomePageDisplayed() {
         boolean isDisplayed = isElementDisplayed(pageTitle);
-        logger.info("Home page displayed: " + isDisplayed);
+        logger.info("Home page displayed: {}", isDisplayed);
         return isDisplayed;
     }
     
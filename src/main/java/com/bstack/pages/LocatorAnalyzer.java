@@ -0,0 +1,329 @@
+package com.bstack.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import com.bstack.utils.DriverFactory;
+import java.io.File;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Enumeration;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeSet;
+import java.util.jar.JarEntry;
+import java.util.jar.JarFile;
+
+/**
+ * Locator Analyzer that scans the @FindBy locators of all page classes in com.bstack.pages and
+ * times each of them inside the browser against the live page or a saved local copy.
+ * Every XPath is timed next to its CSS form from XPathToCss, the two match sets are compared,
+ * and slow locators are reported together with the CSS selector locator.css.compile swaps in.
+ * 
+ * Run after compile (optional args: runs per locator, slow threshold in microseconds, and
+ * PageClass=url overrides, e.g. HomePage=file:///tmp/home.html):
+ * mvn exec:java -Dexec.mainClass=com.bstack.pages.LocatorAnalyzer -Dexec.args="200 20"
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class LocatorAnalyzer {
+    
+    private static final Logger logger = LogManager.getLogger(LocatorAnalyzer.class);
+    private static final String PAGES_PACKAGE = "com.bstack.pages";
+    private static final String REPORT_FILE = "test-output/locator-report.txt";
+    private static final int DEFAULT_RUNS = 200;
+    private static final double DEFAULT_SLOW_MICROS = 20.0;
+    private static final double CSS_SPEEDUP_FACTOR = 1.5;
+    
+    private static final String TIME_LOCATORS_SCRIPT =
+            "var xpath = arguments[0], css = arguments[1], runs = arguments[2];" +
+            "function byXPath() {" +
+            "  var result = document.evaluate(xpath, document, null, XPathResult.ORDERED_NODE_SNAPSHOT_TYPE, null);" +
+            "  var nodes = [];" +
+            "  for (var i = 0; i < result.snapshotLength; i++) { nodes.push(result.snapshotItem(i)); }" +
+            "  return nodes;" +
+            "}" +
+            "function byCss() { return Array.prototype.slice.call(document.querySelectorAll(css)); }" +
+            "function time(query) {" +
+            "  query();" +
+            "  var start = performance.now();" +
+            "  for (var i = 0; i < runs; i++) { query(); }" +
+            "  return (performance.now() - start) * 1000 / runs;" +
+            "}" +
+            "var xpathNodes = xpath ? byXPath() : null, cssNodes = css ? byCss() : null;" +
+            "var same = !xpathNodes || !cssNodes || (xpathNodes.length === cssNodes.length" +
+            "  && xpathNodes.every(function(node, i) { return node === cssNodes[i]; }));" +
+            "return { xpathMicros: xpath ? time(byXPath) : -1, cssMicros: css ? time(byCss) : -1," +
+            "  matches: (xpathNodes || cssNodes).length, same: same };";
+    
+    /**
+     * Run the analyzer against all page classes and write the report
+     * @param args Optional runs per locator, slow threshold in microseconds and PageClass=url overrides
+     */
+    public static void main(String[] args) throws Exception {
+        int runs = DEFAULT_RUNS;
+        double slowMicros = DEFAULT_SLOW_MICROS;
+        Map<String, String> urls = new LinkedHashMap<>();
+        int position = 0;
+        for (String arg : args) {
+            if (arg.contains("=")) {
+                urls.put(arg.substring(0, arg.indexOf('=')), arg.substring(arg.indexOf('=') + 1));
+            } else if (position++ == 0) {
+                runs = Integer.parseInt(arg);
+            } else {
+                slowMicros = Double.parseDouble(arg);
+            }
+        }
+        
+        List<LocatorTiming> timings = new ArrayList<>();
+        WebDriver driver = DriverFactory.createDriver();
+        try {
+            for (Class<? extends BasePage> pageClass : findPageClasses()) {
+                String url = urls.getOrDefault(pageClass.getSimpleName(), getPageUrl(pageClass));
+                if (url == null) {
+                    logger.warn("No URL for {}, pass {}=url to analyze it", pageClass.getSimpleName(), pageClass.getSimpleName());
+                    continue;
+                }
+                driver.get(url);
+                timings.addAll(analyze(driver, pageClass, runs));
+            }
+        } finally {
+            DriverFactory.quitDriver(driver);
+        }
+        writeReport(timings, slowMicros);
+    }
+    
+    /**
+     * Time every locator of a page class against the page currently loaded in the driver
+     * @param driver WebDriver showing the page (live or a local copy)
+     * @param pageClass Page class whose @FindBy locators are timed
+     * @param runs Number of evaluations per locator
+     * @return LocatorTiming per field
+     */
+    public static List<LocatorTiming> analyze(WebDriver driver, Class<?> pageClass, int runs) {
+        List<LocatorTiming> timings = new ArrayList<>();
+        for (Map.Entry<String, By> entry : PageObjectFactory.getDeclaredLocators(pageClass).entrySet()) {
+            By declared = entry.getValue();
+            String key = pageClass.getSimpleName() + "." + entry.getKey();
+            By.Remotable.Parameters parameters = declared instanceof By.Remotable
+                    ? ((By.Remotable) declared).getRemoteParameters() : null;
+            String using = parameters != null ? parameters.using() : null;
+            if (!"xpath".equals(using) && !"css selector".equals(using)) {
+                logger.debug("Skipping {}, {} cannot be timed in the page", key, declared);
+                continue;
+            }
+            
+            String xpath = "xpath".equals(using) ? String.valueOf(parameters.value()) : null;
+            String css = xpath != null ? XPathToCss.compile(xpath) : String.valueOf(parameters.value());
+            timings.add(time(driver, key, declared, xpath, css, runs));
+        }
+        return timings;
+    }
+    
+    /**
+     * Time one locator and its CSS form in the page
+     * @param driver WebDriver instance
+     * @param key PageClass.field
+     * @param declared Declared locator
+     * @param xpath XPath to time, or null
+     * @param css CSS selector to time, or null
+     * @param runs Number of evaluations
+     * @return LocatorTiming
+     */
+    @SuppressWarnings("unchecked")
+    private static LocatorTiming time(WebDriver driver, String key, By declared, String xpath, String css, int runs) {
+        Map<String, Object> result = (Map<String, Object>) ((JavascriptExecutor) driver)
+                .executeScript(TIME_LOCATORS_SCRIPT, xpath, css, runs);
+        LocatorTiming timing = new LocatorTiming(key, declared, xpath != null ? css : null,
+                ((Number) result.get("xpathMicros")).doubleValue(),
+                ((Number) result.get("cssMicros")).doubleValue(),
+                ((Number) result.get("matches")).intValue(),
+                Boolean.TRUE.equals(result.get("same")));
+        logger.debug("Timed {}: {}", key, timing);
+        return timing;
+    }
+    
+    /**
+     * Find the concrete page classes of the pages package
+     * @return Page classes sorted by name
+     */
+    static List<Class<? extends BasePage>> findPageClasses() throws IOException, URISyntaxException {
+        String path = PAGES_PACKAGE.replace('.', '/');
+        TreeSet<String> classNames = new TreeSet<>();
+        Enumeration<URL> resources = LocatorAnalyzer.class.getClassLoader().getResources(path);
+        while (resources.hasMoreElements()) {
+            URL resource = resources.nextElement();
+            if ("jar".equals(resource.getProtocol())) {
+                try (JarFile jar = ((JarURLConnection) resource.openConnection()).getJarFile()) {
+                    for (Enumeration<JarEntry> entries = jar.entries(); entries.hasMoreElements(); ) {
+                        String name = entries.nextElement().getName();
+                        if (name.startsWith(path + "/") && name.indexOf('/', path.length() + 1) < 0) {
+                            classNames.add(name.substring(path.length() + 1));
+                        }
+                    }
+                }
+            } else {
+                String[] names = new File(resource.toURI()).list();
+                if (names != null) {
+                    classNames.addAll(Arrays.asList(names));
+                }
+            }
+        }
+        
+        List<Class<? extends BasePage>> pageClasses = new ArrayList<>();
+        for (String className : classNames) {
+            if (!className.endsWith(".class") || className.contains("$")) {
+                continue;
+            }
+            try {
+                Class<?> type = Class.forName(PAGES_PACKAGE + "." + className.substring(0, className.length() - 6));
+                if (BasePage.class.isAssignableFrom(type) && !Modifier.isAbstract(type.getModifiers())) {
+                    pageClasses.add(type.asSubclass(BasePage.class));
+                }
+            } catch (ClassNotFoundException e) {
+                logger.debug("Cannot load page class {}", className);
+            }
+        }
+        return pageClasses;
+    }
+    
+    /**
+     * Get the URL constant (a static String field ending in _URL) of a page class
+     * @param pageClass Page class
+     * @return URL or null if the class declares none
+     */
+    private static String getPageUrl(Class<?> pageClass) {
+        for (Field field : pageClass.getDeclaredFields()) {
+            if (Modifier.isStatic(field.getModifiers()) && field.getType() == String.class
+                    && field.getName().endsWith("_URL")) {
+                try {
+                    field.setAccessible(true);
+                    return (String) field.get(null);
+                } catch (IllegalAccessException e) {
+                    logger.debug("Cannot read {} of {}", field.getName(), pageClass.getSimpleName());
+                }
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Log the timings and write them to the report file, slow locators first
+     * @param timings Locator timings
+     * @param slowMicros Threshold above which a locator counts as slow
+     */
+    private static void writeReport(List<LocatorTiming> timings, double slowMicros) throws IOException {
+        List<LocatorTiming> ordered = new ArrayList<>(timings);
+        ordered.sort((a, b) -> Double.compare(b.getDeclaredMicros(), a.getDeclaredMicros()));
+        
+        File file = new File(REPORT_FILE);
+        if (file.getParentFile() != null) {
+            file.getParentFile().mkdirs();
+        }
+        try (PrintWriter writer = new PrintWriter(file, "UTF-8")) {
+            int slow = 0;
+            for (LocatorTiming timing : ordered) {
+                boolean isSlow = timing.isSlow(slowMicros);
+                slow += isSlow ? 1 : 0;
+                String line = String.format(Locale.ROOT, "%-5s %s", isSlow ? "SLOW" : "ok", timing);
+                writer.println(line);
+                logger.info(line);
+            }
+            logger.info("{} of {} locators are slow (threshold {} us), report written to: {}",
+                    slow, ordered.size(), slowMicros, file.getPath());
+        }
+    }
+    
+    /**
+     * In-page evaluation time of one locator and of its CSS form
+     */
+    public static class LocatorTiming {
+        private final String key;
+        private final By declared;
+        private final String compiledCss;
+        private final double xpathMicros;
+        private final double cssMicros;
+        private final int matches;
+        private final boolean sameMatches;
+        
+        LocatorTiming(String key, By declared, String compiledCss, double xpathMicros, double cssMicros,
+                      int matches, boolean sameMatches) {
+            this.key = key;
+            this.declared = declared;
+            this.compiledCss = compiledCss;
+            this.xpathMicros = xpathMicros;
+            this.cssMicros = cssMicros;
+            this.matches = matches;
+            this.sameMatches = sameMatches;
+        }
+        
+        /**
+         * Get PageClass.field
+         * @return String key
+         */
+        public String getKey() {
+            return key;
+        }
+        
+        /**
+         * Get CSS selector compiled from the declared XPath
+         * @return CSS selector, or null if the locator is not an XPath or has no exact CSS form
+         */
+        public String getCompiledCss() {
+            return compiledCss;
+        }
+        
+        /**
+         * Get evaluation time of the locator as declared
+         * @return double microseconds per evaluation
+         */
+        public double getDeclaredMicros() {
+            return xpathMicros >= 0 ? xpathMicros : cssMicros;
+        }
+        
+        /**
+         * Check if the compiled CSS selector matched exactly the same elements as the XPath
+         * @return boolean true if the match sets are identical
+         */
+        public boolean isSameMatches() {
+            return sameMatches;
+        }
+        
+        /**
+         * Check if the locator is slow: above the threshold, or clearly slower than its CSS form
+         * @param slowMicros Threshold in microseconds per evaluation
+         * @return boolean true if slow
+         */
+        public boolean isSlow(double slowMicros) {
+            return getDeclaredMicros() >= slowMicros
+                    || (compiledCss != null && xpathMicros >= cssMicros * CSS_SPEEDUP_FACTOR);
+        }
+        
+        @Override
+        public String toString() {
+            StringBuilder builder = new StringBuilder(String.format(Locale.ROOT, "%-45s %8.1f us  %3d matches  %s",
+                    key, getDeclaredMicros(), matches, declared));
+            if (compiledCss != null) {
+                builder.append(String.format(Locale.ROOT, "  -> css %.1f us: %s", cssMicros, compiledCss));
+                if (!sameMatches) {
+                    builder.append("  (MATCHES DIFFER)");
+                }
+            } else if (xpathMicros >= 0) {
+                builder.append("  -> no exact CSS form (text() or position), use a class or id locator");
+            }
+            return builder.toString();
+        }
+    }
+}
\ No newline at end of file
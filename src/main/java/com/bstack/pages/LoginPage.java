@@ -58,6 +58,16 @@ public class LoginPage extends BasePage {
         super(driver);
     }
     
+    /**
+     * Login page is usable once the login button is rendered and enabled
+     * @return JavaScript boolean expression
+     */
+    @Override
+    protected String getReadinessCondition() {
+        return "(function(button) { return button !== null && !button.disabled && button.getClientRects().length > 0; })"
+                + "(document.getElementById('login-btn'))";
+    }
+    
     /**
      * Navigate to login page
      * @return LoginPage instance for method chaining
@@ -75,7 +85,21 @@ public class LoginPage extends BasePage {
      */
     public boolean isLoginPageDisplayed() {
         boolean isDisplayed = isElementDisplayed(loginPageHeader);
-        logger.info("Login page displayed: " + isDisplayed);
+        logger.info("Login page displayed: {}", isDisplayed);
+        return isDisplayed;
+    }
+    
+    /**
+     * Check if the login form is rendered, evaluated against a DOM snapshot
+     * @param snapshot DomSnapshot of the login page
+     * @return boolean true if header, username, password and login button are visible
+     */
+    public boolean isLoginFormDisplayed(DomSnapshot snapshot) {
+        boolean isDisplayed = snapshot.isDisplayed(getLocator(loginPageHeader))
+                && snapshot.isDisplayed(getLocator(usernameDropdown))
+                && snapshot.isDisplayed(getLocator(passwordDropdown))
+                && snapshot.isDisplayed(getLocator(loginButton));
+        logger.info("Login form displayed: {}", isDisplayed);
         return isDisplayed;
     }
     
@@ -101,11 +125,11 @@ public class LoginPage extends BasePage {
                 clickElement(existingOrdersUserOption);
                 break;
             default:
-                logger.error("Invalid username provided: " + username);
+                logger.error("Invalid username provided: {}", username);
                 throw new IllegalArgumentException("Invalid username: " + username);
         }
         
-        logger.info("Selected username: " + username);
+        logger.info("Selected username: {}", username);
         return this;
     }
     
@@ -127,7 +151,7 @@ public class LoginPage extends BasePage {
     public HomePage clickLoginButton() {
         clickElement(loginButton);
         logger.info("Clicked login button");
-        return new HomePage(driver);
+        return getPage(HomePage.class);
     }
     
     /**
@@ -146,7 +170,7 @@ public class LoginPage extends BasePage {
      * @return String error message
      */
     public String getErrorMessage() {
-        if (isElementDisplayed(errorMessage)) {
+        if (isElementDisplayedNow(errorMessage)) {
             return getElementText(errorMessage);
         }
         return "";
@@ -157,7 +181,16 @@ public class LoginPage extends BasePage {
      * @return boolean true if error message is displayed
      */
     public boolean isErrorMessageDisplayed() {
-        return isElementDisplayed(errorMessage);
+        return isElementDisplayedNow(errorMessage);
+    }
+    
+    /**
+     * Assert that no login error message is shown
+     * @return LoginPage instance for method chaining
+     */
+    public LoginPage expectNoErrorMessage() {
+        expectAbsent(errorMessage, "Login error message");
+        return this;
     }
     
     /**
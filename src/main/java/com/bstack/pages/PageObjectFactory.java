@@ -0,0 +1,430 @@
+package com.bstack.pages;
+
+import org.openqa.selenium.By;
+import org.openqa.selenium.SearchContext;
+import org.openqa.selenium.StaleElementReferenceException;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.WebElement;
+import org.openqa.selenium.WrapsElement;
+import org.openqa.selenium.interactions.Locatable;
+import org.openqa.selenium.support.FindAll;
+import org.openqa.selenium.support.FindBy;
+import org.openqa.selenium.support.FindBys;
+import org.openqa.selenium.support.pagefactory.Annotations;
+import org.openqa.selenium.support.pagefactory.ElementLocator;
+import org.openqa.selenium.support.pagefactory.internal.LocatingElementListHandler;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import com.bstack.utils.ConfigReader;
+import com.bstack.utils.DriverFactory;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Field;
+import java.lang.reflect.InvocationHandler;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.ParameterizedType;
+import java.lang.reflect.Proxy;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Page Object Factory that replaces per-instance PageFactory scanning.
+ * The @FindBy fields of each page class are scanned and compiled to By locators once,
+ * and page instances (with their element proxies and wait) are reused per driver, so page
+ * transitions only perform a map lookup. Cached pages are dropped when their driver quits.
+ * With element.cache.enabled, single element proxies reuse the element the actionability check
+ * has just confirmed to still be the first match of their locator, for the native action that
+ * follows, until the page epoch of their driver advances (on navigation, mutating actions and
+ * completed condition waits). Any other call resolves the element again, so the cache never
+ * serves an element that DOM changes made outside page methods may have replaced.
+ * With locator.css.compile, XPaths that have an exact CSS equivalent are swapped for the
+ * CSS selector (see XPathToCss), which browsers evaluate faster.
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class PageObjectFactory {
+    
+    private static final Logger logger = LogManager.getLogger(PageObjectFactory.class);
+    private static final Map<Class<?>, PageMetadata> metadataCache = new ConcurrentHashMap<>();
+    private static final Map<WebDriver, Map<Class<?>, BasePage>> pagesByDriver = new ConcurrentHashMap<>();
+    private static final Map<SearchContext, AtomicLong> pageEpochs = new ConcurrentHashMap<>();
+    
+    static {
+        DriverFactory.addQuitListener(PageObjectFactory::evict);
+    }
+    
+    /**
+     * Get the page object of a class for a driver, creating it on first use
+     * @param driver WebDriver instance
+     * @param pageClass Page class with a public (WebDriver) constructor
+     * @return Page instance shared by all callers using the same driver
+     */
+    public static <T extends BasePage> T getPage(WebDriver driver, Class<T> pageClass) {
+        Map<Class<?>, BasePage> pages = pagesByDriver.computeIfAbsent(driver, key -> new ConcurrentHashMap<>());
+        return pageClass.cast(pages.computeIfAbsent(pageClass, key -> newPage(driver, pageClass)));
+    }
+    
+    /**
+     * Drop the cached pages of a driver
+     * @param driver WebDriver instance that was quit
+     */
+    public static void evict(WebDriver driver) {
+        pageEpochs.remove(driver);
+        Map<Class<?>, BasePage> pages = pagesByDriver.remove(driver);
+        if (pages != null) {
+            logger.debug("Evicted {} cached pages of a closed driver", pages.size());
+        }
+    }
+    
+    /**
+     * Mark the DOM of a driver as possibly changed so cached elements are resolved again
+     * @param searchContext Driver whose page changed
+     */
+    static void advanceEpoch(SearchContext searchContext) {
+        AtomicLong epoch = pageEpochs.get(searchContext);
+        if (epoch != null) {
+            epoch.incrementAndGet();
+        }
+    }
+    
+    /**
+     * Get the locator the actionability check verifies a cached element proxy against
+     * @param element Element passed to a page method
+     * @return Remote parameters (css selector or xpath) of its locator, null if it is not cached
+     */
+    static By.Remotable.Parameters getCachedLocator(WebElement element) {
+        CachingElementLocator locator = getCachingLocator(element);
+        return locator != null ? locator.parameters : null;
+    }
+    
+    /**
+     * Let a cached element proxy reuse its resolved element until the page epoch advances
+     * @param element Element the actionability check found to be the first match of its locator
+     */
+    static void confirm(WebElement element) {
+        CachingElementLocator locator = getCachingLocator(element);
+        if (locator != null) {
+            locator.confirm();
+        }
+    }
+    
+    /**
+     * Forget the resolved element of a cached element proxy
+     * @param element Element the actionability check found replaced
+     */
+    static void invalidate(WebElement element) {
+        CachingElementLocator locator = getCachingLocator(element);
+        if (locator != null) {
+            locator.invalidate();
+        }
+    }
+    
+    /**
+     * Initialize the element fields of a page from the cached metadata of its class
+     * @param searchContext Driver or element the proxies search from
+     * @param page Page instance to initialize
+     */
+    static void initElements(SearchContext searchContext, Object page) {
+        ClassLoader classLoader = page.getClass().getClassLoader();
+        // The actionability check verifies cached elements against the whole document
+        boolean cacheElements = ConfigReader.isElementCacheEnabled() && searchContext instanceof WebDriver;
+        AtomicLong epoch = cacheElements ? pageEpochs.computeIfAbsent(searchContext, key -> new AtomicLong()) : null;
+        for (ElementField elementField : getMetadata(page.getClass()).elementFields) {
+            Object proxy;
+            if (elementField.list) {
+                // Lists are resolved on every call, their items are plain remote elements
+                proxy = Proxy.newProxyInstance(classLoader, new Class<?>[] {List.class},
+                        new LocatingElementListHandler(new ByElementLocator(searchContext, elementField.locator)));
+            } else {
+                By.Remotable.Parameters parameters = cacheElements ? getVerifiableParameters(elementField.locator) : null;
+                ByElementLocator locator = parameters != null
+                        ? new CachingElementLocator(searchContext, elementField.locator, parameters, epoch)
+                        : new ByElementLocator(searchContext, elementField.locator);
+                proxy = Proxy.newProxyInstance(classLoader, new Class<?>[] {WebElement.class, WrapsElement.class, Locatable.class},
+                        new ElementHandler(locator));
+            }
+            try {
+                elementField.field.set(page, proxy);
+            } catch (IllegalAccessException e) {
+                throw new IllegalStateException("Cannot initialize field " + elementField.field, e);
+            }
+        }
+    }
+    
+    /**
+     * Get the compiled locators of a page class, scanning it on first use
+     * @param pageClass Page class
+     * @return PageMetadata of the class
+     */
+    static PageMetadata getMetadata(Class<?> pageClass) {
+        return metadataCache.computeIfAbsent(pageClass, PageObjectFactory::scan);
+    }
+    
+    /**
+     * Get the locators as declared by the annotations of a page class, before CSS compilation
+     * @param pageClass Page class
+     * @return Declared By per field name, in scan order
+     */
+    static Map<String, By> getDeclaredLocators(Class<?> pageClass) {
+        Map<String, By> locators = new LinkedHashMap<>();
+        for (ElementField elementField : getMetadata(pageClass).elementFields) {
+            locators.put(elementField.field.getName(), elementField.declared);
+        }
+        return locators;
+    }
+    
+    /**
+     * Create a page instance through its cached constructor
+     * @param driver WebDriver instance
+     * @param pageClass Page class
+     * @return New page instance
+     */
+    private static <T extends BasePage> T newPage(WebDriver driver, Class<T> pageClass) {
+        try {
+            return pageClass.cast(getMetadata(pageClass).constructor.newInstance(driver));
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException("Failed to create " + pageClass.getSimpleName(), e.getCause());
+        } catch (ReflectiveOperationException e) {
+            throw new IllegalStateException("Failed to create " + pageClass.getSimpleName(), e);
+        }
+    }
+    
+    /**
+     * Scan the annotated WebElement and List&lt;WebElement&gt; fields of a page class and its parents
+     * @param pageClass Page class
+     * @return PageMetadata with a compiled By per field
+     */
+    private static PageMetadata scan(Class<?> pageClass) {
+        List<ElementField> elementFields = new ArrayList<>();
+        boolean compileCss = ConfigReader.isLocatorCssCompileEnabled();
+        for (Class<?> type = pageClass; type != null && type != Object.class; type = type.getSuperclass()) {
+            for (Field field : type.getDeclaredFields()) {
+                if (Modifier.isStatic(field.getModifiers()) || !isAnnotated(field)) {
+                    continue;
+                }
+                boolean list = isElementList(field);
+                if (!list && !WebElement.class.isAssignableFrom(field.getType())) {
+                    continue;
+                }
+                field.setAccessible(true);
+                By declared = new Annotations(field).buildBy();
+                By compiled = compileCss ? XPathToCss.compile(declared) : null;
+                if (compiled != null) {
+                    logger.debug("Compiled {}.{} to {}", pageClass.getSimpleName(), field.getName(), compiled);
+                }
+                elementFields.add(new ElementField(field, declared, compiled != null ? compiled : declared, list));
+            }
+        }
+        
+        Constructor<?> constructor = null;
+        try {
+            constructor = pageClass.getConstructor(WebDriver.class);
+        } catch (NoSuchMethodException e) {
+            logger.debug("{} has no public (WebDriver) constructor, it can only be initialized", pageClass.getSimpleName());
+        }
+        logger.debug("Scanned {} element fields of {}", elementFields.size(), pageClass.getSimpleName());
+        return new PageMetadata(Collections.unmodifiableList(elementFields), constructor);
+    }
+    
+    /**
+     * Get the wire form of a locator if a script can find its first match
+     * @param by Compiled locator
+     * @return Remote parameters with a css selector or xpath, null for other strategies
+     */
+    private static By.Remotable.Parameters getVerifiableParameters(By by) {
+        if (!(by instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) by).getRemoteParameters();
+        boolean verifiable = ("css selector".equals(parameters.using()) || "xpath".equals(parameters.using()))
+                && parameters.value() instanceof String;
+        return verifiable ? parameters : null;
+    }
+    
+    /**
+     * Get the caching locator behind an element proxy
+     * @param element Element passed to a page method
+     * @return CachingElementLocator, null for plain elements and non-caching proxies
+     */
+    private static CachingElementLocator getCachingLocator(WebElement element) {
+        if (element == null || !Proxy.isProxyClass(element.getClass())) {
+            return null;
+        }
+        InvocationHandler handler = Proxy.getInvocationHandler(element);
+        if (handler instanceof ElementHandler && ((ElementHandler) handler).locator instanceof CachingElementLocator) {
+            return (CachingElementLocator) ((ElementHandler) handler).locator;
+        }
+        return null;
+    }
+    
+    /**
+     * Check if a field carries a PageFactory locator annotation
+     * @param field Field to check
+     * @return boolean true if annotated with @FindBy, @FindBys or @FindAll
+     */
+    private static boolean isAnnotated(Field field) {
+        return field.isAnnotationPresent(FindBy.class) || field.isAnnotationPresent(FindBys.class)
+                || field.isAnnotationPresent(FindAll.class);
+    }
+    
+    /**
+     * Check if a field is a List of WebElement
+     * @param field Field to check
+     * @return boolean true for List&lt;WebElement&gt;
+     */
+    private static boolean isElementList(Field field) {
+        return List.class.equals(field.getType())
+                && field.getGenericType() instanceof ParameterizedType
+                && WebElement.class.equals(((ParameterizedType) field.getGenericType()).getActualTypeArguments()[0]);
+    }
+    
+    /**
+     * Compiled locators and constructor of one page class
+     */
+    static class PageMetadata {
+        private final List<ElementField> elementFields;
+        private final Constructor<?> constructor;
+        
+        PageMetadata(List<ElementField> elementFields, Constructor<?> constructor) {
+            this.elementFields = elementFields;
+            this.constructor = constructor;
+        }
+    }
+    
+    /**
+     * Element field with its declared and compiled locator
+     */
+    private static class ElementField {
+        private final Field field;
+        private final By declared;
+        private final By locator;
+        private final boolean list;
+        
+        ElementField(Field field, By declared, By locator, boolean list) {
+            this.field = field;
+            this.declared = declared;
+            this.locator = locator;
+            this.list = list;
+        }
+    }
+    
+    /**
+     * Element locator that searches with a precompiled By instead of reading annotations
+     */
+    private static class ByElementLocator implements ElementLocator {
+        private final SearchContext searchContext;
+        private final By by;
+        
+        ByElementLocator(SearchContext searchContext, By by) {
+            this.searchContext = searchContext;
+            this.by = by;
+        }
+        
+        @Override
+        public WebElement findElement() {
+            return searchContext.findElement(by);
+        }
+        
+        @Override
+        public List<WebElement> findElements() {
+            return searchContext.findElements(by);
+        }
+        
+        /**
+         * Forget a resolved element, no-op for locators that do not cache
+         */
+        void invalidate() {
+        }
+        
+        @Override
+        public String toString() {
+            return "Located by " + by;
+        }
+    }
+    
+    /**
+     * Element locator that reuses the last resolved element once the actionability check has
+     * confirmed it, until the page epoch advances. Unconfirmed lookups always search again
+     */
+    private static class CachingElementLocator extends ByElementLocator {
+        private final By.Remotable.Parameters parameters;
+        private final AtomicLong epoch;
+        private WebElement cachedElement;
+        private boolean confirmed;
+        private long confirmedEpoch;
+        
+        CachingElementLocator(SearchContext searchContext, By by, By.Remotable.Parameters parameters, AtomicLong epoch) {
+            super(searchContext, by);
+            this.parameters = parameters;
+            this.epoch = epoch;
+        }
+        
+        @Override
+        public WebElement findElement() {
+            if (cachedElement == null || !confirmed || confirmedEpoch != epoch.get()) {
+                cachedElement = super.findElement();
+                confirmed = false;
+            }
+            return cachedElement;
+        }
+        
+        /**
+         * Keep the last resolved element for the current epoch
+         */
+        void confirm() {
+            if (cachedElement != null) {
+                confirmed = true;
+                confirmedEpoch = epoch.get();
+            }
+        }
+        
+        @Override
+        void invalidate() {
+            cachedElement = null;
+            confirmed = false;
+        }
+    }
+    
+    /**
+     * Proxy handler that calls the (possibly cached) element and re-resolves it once if it has
+     * gone stale. toString describes the locator without looking the element up.
+     */
+    private static class ElementHandler implements InvocationHandler {
+        private final ByElementLocator locator;
+        
+        ElementHandler(ByElementLocator locator) {
+            this.locator = locator;
+        }
+        
+        @Override
+        public Object invoke(Object proxy, Method method, Object[] args) throws Throwable {
+            if ("toString".equals(method.getName()) && method.getParameterCount() == 0) {
+                return "Proxy element for: " + locator;
+            }
+            if ("getWrappedElement".equals(method.getName())) {
+                return locator.findElement();
+            }
+            try {
+                return method.invoke(locator.findElement(), args);
+            } catch (InvocationTargetException e) {
+                if (!(e.getCause() instanceof StaleElementReferenceException)) {
+                    throw e.getCause();
+                }
+                logger.debug("Element went stale, resolving again: {}", locator);
+                locator.invalidate();
+            }
+            try {
+                return method.invoke(locator.findElement(), args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,120 @@
+package com.bstack.pages;
+
+import java.math.BigDecimal;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Product shown on the BStack Demo shelf, captured as part of a ProductCatalog snapshot
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class Product {
+    
+    public static final String UNKNOWN_BRAND = "Unknown";
+    
+    // Title prefixes used to derive the brand, the shelf does not render it
+    private static final Map<String, String> BRAND_PREFIXES = new LinkedHashMap<>();
+    
+    static {
+        BRAND_PREFIXES.put("iphone", "Apple");
+        BRAND_PREFIXES.put("galaxy", "Samsung");
+        BRAND_PREFIXES.put("samsung", "Samsung");
+        BRAND_PREFIXES.put("one plus", "OnePlus");
+        BRAND_PREFIXES.put("oneplus", "OnePlus");
+        BRAND_PREFIXES.put("pixel", "Google");
+    }
+    
+    private final String id;
+    private final String title;
+    private final BigDecimal price;
+    private final String brand;
+    private final boolean favourite;
+    private final boolean available;
+    
+    /**
+     * Constructor
+     * @param id Shelf item id
+     * @param title Product title
+     * @param price Product price
+     * @param favourite true if the product is marked as favourite
+     * @param available true if the product has an add to cart button
+     */
+    public Product(String id, String title, BigDecimal price, boolean favourite, boolean available) {
+        this.id = id;
+        this.title = title;
+        this.price = price;
+        this.brand = inferBrand(title);
+        this.favourite = favourite;
+        this.available = available;
+    }
+    
+    /**
+     * Derive the brand from the product title
+     * @param title Product title
+     * @return Brand name or UNKNOWN_BRAND
+     */
+    static String inferBrand(String title) {
+        String normalized = title.trim().toLowerCase();
+        for (Map.Entry<String, String> prefix : BRAND_PREFIXES.entrySet()) {
+            if (normalized.startsWith(prefix.getKey())) {
+                return prefix.getValue();
+            }
+        }
+        return UNKNOWN_BRAND;
+    }
+    
+    /**
+     * Get shelf item id
+     * @return String id
+     */
+    public String getId() {
+        return id;
+    }
+    
+    /**
+     * Get product title
+     * @return String title
+     */
+    public String getTitle() {
+        return title;
+    }
+    
+    /**
+     * Get product price
+     * @return BigDecimal price
+     */
+    public BigDecimal getPrice() {
+        return price;
+    }
+    
+    /**
+     * Get product brand
+     * @return String brand
+     */
+    public String getBrand() {
+        return brand;
+    }
+    
+    /**
+     * Check if product is marked as favourite
+     * @return boolean true if favourite
+     */
+    public boolean isFavourite() {
+        return favourite;
+    }
+    
+    /**
+     * Check if product can be added to cart
+     * @return boolean true if the buy button is available
+     */
+    public boolean isAvailable() {
+        return available;
+    }
+    
+    @Override
+    public String toString() {
+        return title + " (" + brand + ", $" + price + ")";
+    }
+}
\ No newline at end of file
@@ -0,0 +1,145 @@
+package com.bstack.pages;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.NavigableMap;
+import java.util.Set;
+import java.util.TreeMap;
+
+/**
+ * In-memory snapshot of every product on the shelf, captured in a single script execution.
+ * Products are indexed by brand and by price so filter and sort checks run locally
+ * instead of reading each shelf item through WebDriver.
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class ProductCatalog {
+    
+    private final List<Product> products;
+    private final Map<String, List<Product>> productsByBrand = new LinkedHashMap<>();
+    private final NavigableMap<BigDecimal, List<Product>> productsByPrice = new TreeMap<>();
+    
+    /**
+     * Constructor
+     * @param products Products in shelf order
+     */
+    public ProductCatalog(List<Product> products) {
+        this.products = Collections.unmodifiableList(new ArrayList<>(products));
+        for (Product product : this.products) {
+            productsByBrand.computeIfAbsent(product.getBrand(), brand -> new ArrayList<>()).add(product);
+            productsByPrice.computeIfAbsent(product.getPrice(), price -> new ArrayList<>()).add(product);
+        }
+    }
+    
+    /**
+     * Get number of products on the shelf
+     * @return int product count
+     */
+    public int size() {
+        return products.size();
+    }
+    
+    /**
+     * Get all products in shelf order
+     * @return List of products
+     */
+    public List<Product> getProducts() {
+        return products;
+    }
+    
+    /**
+     * Get brands present on the shelf
+     * @return Set of brand names in order of first appearance
+     */
+    public Set<String> getBrands() {
+        return Collections.unmodifiableSet(productsByBrand.keySet());
+    }
+    
+    /**
+     * Get products of a brand
+     * @param brand Brand name
+     * @return List of products, empty if the brand is not on the shelf
+     */
+    public List<Product> getProductsByBrand(String brand) {
+        return Collections.unmodifiableList(productsByBrand.getOrDefault(brand, Collections.emptyList()));
+    }
+    
+    /**
+     * Check if every product on the shelf belongs to the brand
+     * @param brand Brand name
+     * @return boolean true if the shelf is not empty and only contains the brand
+     */
+    public boolean containsOnlyBrand(String brand) {
+        return !products.isEmpty() && productsByBrand.size() == 1 && productsByBrand.containsKey(brand);
+    }
+    
+    /**
+     * Get products within a price range, cheapest first
+     * @param minPrice Lowest price (inclusive)
+     * @param maxPrice Highest price (inclusive)
+     * @return List of products
+     */
+    public List<Product> getProductsInPriceRange(BigDecimal minPrice, BigDecimal maxPrice) {
+        List<Product> inRange = new ArrayList<>();
+        productsByPrice.subMap(minPrice, true, maxPrice, true).values().forEach(inRange::addAll);
+        return inRange;
+    }
+    
+    /**
+     * Get lowest price on the shelf
+     * @return Lowest price or null if the shelf is empty
+     */
+    public BigDecimal getLowestPrice() {
+        return productsByPrice.isEmpty() ? null : productsByPrice.firstKey();
+    }
+    
+    /**
+     * Get highest price on the shelf
+     * @return Highest price or null if the shelf is empty
+     */
+    public BigDecimal getHighestPrice() {
+        return productsByPrice.isEmpty() ? null : productsByPrice.lastKey();
+    }
+    
+    /**
+     * Get products marked as favourite
+     * @return List of favourite products
+     */
+    public List<Product> getFavourites() {
+        List<Product> favourites = new ArrayList<>();
+        for (Product product : products) {
+            if (product.isFavourite()) {
+                favourites.add(product);
+            }
+        }
+        return favourites;
+    }
+    
+    /**
+     * Check if the shelf order is sorted by price
+     * @param ascending true for lowest to highest, false for highest to lowest
+     * @return boolean true if the shelf is not empty and sorted
+     */
+    public boolean isSortedByPrice(boolean ascending) {
+        if (products.isEmpty()) {
+            return false;
+        }
+        for (int i = 1; i < products.size(); i++) {
+            int comparison = products.get(i).getPrice().compareTo(products.get(i - 1).getPrice());
+            if (ascending ? comparison < 0 : comparison > 0) {
+                return false;
+            }
+        }
+        return true;
+    }
+    
+    @Override
+    public String toString() {
+        return products.size() + " products " + productsByBrand.keySet();
+    }
+}
\ No newline at end of file
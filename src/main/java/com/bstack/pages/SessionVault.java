@@ -0,0 +1,133 @@
+package com.bstack.pages;
+
+import org.openqa.selenium.Cookie;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import com.bstack.utils.ConfigReader;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Session Vault that logs each user type in through the UI once and then restores the
+ * captured cookies, localStorage and sessionStorage into other browsers.
+ * Tests that need a logged in user but do not test login itself skip the login UI.
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class SessionVault {
+    
+    private static final Logger logger = LogManager.getLogger(SessionVault.class);
+    private static final Map<String, SessionState> sessions = new ConcurrentHashMap<>();
+    private static final Map<String, Object> loginLocks = new ConcurrentHashMap<>();
+    
+    private static final String CAPTURE_STORAGE_SCRIPT =
+            "return { local: Object.assign({}, window.localStorage), session: Object.assign({}, window.sessionStorage) };";
+    private static final String RESTORE_STORAGE_SCRIPT =
+            "var local = arguments[0], session = arguments[1];" +
+            "window.localStorage.clear(); window.sessionStorage.clear();" +
+            "Object.keys(local).forEach(function(k) { window.localStorage.setItem(k, local[k]); });" +
+            "Object.keys(session).forEach(function(k) { window.sessionStorage.setItem(k, session[k]); });";
+    
+    /**
+     * Log in as the given user, restoring a captured session when one exists
+     * @param driver WebDriver instance
+     * @param username Username (demouser, fav_user, image_not_loading_user, existing_orders_user)
+     * @return HomePage instance of the logged in user
+     */
+    public static HomePage login(WebDriver driver, String username) {
+        if (!ConfigReader.isSessionVaultEnabled()) {
+            return loginThroughUi(driver, username);
+        }
+        
+        SessionState state = sessions.get(username);
+        if (state != null) {
+            HomePage homePage = restore(driver, state);
+            if (homePage.isUserLoggedInNow()) {
+                logger.info("Restored session for user: {}", username);
+                return homePage;
+            }
+            logger.warn("Restored session for user {} is not logged in, capturing a new one", username);
+            sessions.remove(username, state);
+        }
+        
+        synchronized (loginLocks.computeIfAbsent(username, key -> new Object())) {
+            SessionState captured = sessions.get(username);
+            if (captured != null && captured != state) {
+                HomePage homePage = restore(driver, captured);
+                if (homePage.isUserLoggedInNow()) {
+                    logger.info("Restored session for user: {}", username);
+                    return homePage;
+                }
+            }
+            
+            HomePage homePage = loginThroughUi(driver, username);
+            if (homePage.isUserLoggedInNow()) {
+                sessions.put(username, capture(driver));
+                logger.info("Captured session for user: {}", username);
+            }
+            return homePage;
+        }
+    }
+    
+    /**
+     * Log in through the login page UI
+     * @param driver WebDriver instance
+     * @param username Username to log in with
+     * @return HomePage instance
+     */
+    private static HomePage loginThroughUi(WebDriver driver, String username) {
+        return PageObjectFactory.getPage(driver, LoginPage.class).navigateToLoginPage().login(username);
+    }
+    
+    /**
+     * Capture cookies and web storage of the current page
+     * @param driver WebDriver instance
+     * @return SessionState snapshot
+     */
+    @SuppressWarnings("unchecked")
+    private static SessionState capture(WebDriver driver) {
+        Map<String, Object> storage = (Map<String, Object>) ((JavascriptExecutor) driver)
+                .executeScript(CAPTURE_STORAGE_SCRIPT);
+        return new SessionState(
+                new HashSet<>(driver.manage().getCookies()),
+                (Map<String, Object>) storage.getOrDefault("local", Collections.emptyMap()),
+                (Map<String, Object>) storage.getOrDefault("session", Collections.emptyMap()));
+    }
+    
+    /**
+     * Restore a captured session into the browser and reload the application
+     * @param driver WebDriver instance
+     * @param state Captured session
+     * @return HomePage instance
+     */
+    private static HomePage restore(WebDriver driver, SessionState state) {
+        HomePage homePage = PageObjectFactory.getPage(driver, HomePage.class).navigateToHomePage();
+        driver.manage().deleteAllCookies();
+        for (Cookie cookie : state.cookies) {
+            driver.manage().addCookie(cookie);
+        }
+        ((JavascriptExecutor) driver).executeScript(RESTORE_STORAGE_SCRIPT, state.localStorage, state.sessionStorage);
+        return homePage.navigateToHomePage();
+    }
+    
+    /**
+     * Captured authentication state of one user
+     */
+    private static class SessionState {
+        private final Set<Cookie> cookies;
+        private final Map<String, Object> localStorage;
+        private final Map<String, Object> sessionStorage;
+        
+        SessionState(Set<Cookie> cookies, Map<String, Object> localStorage, Map<String, Object> sessionStorage) {
+            this.cookies = Collections.unmodifiableSet(cookies);
+            this.localStorage = Collections.unmodifiableMap(localStorage);
+            this.sessionStorage = Collections.unmodifiableMap(sessionStorage);
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,208 @@
+package com.bstack.pages;
+
+import org.openqa.selenium.By;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Locale;
+import java.util.Set;
+
+/**
+ * Compiler for the XPath subset that has an exact CSS equivalent: descendant and child steps
+ * with element names and attribute predicates (equals, presence, contains, starts-with and
+ * "and" combinations). Positional predicates, text() matches, axes, functions on text and
+ * unions change meaning or have no CSS form, so those XPaths are left untouched. So are value
+ * predicates on attributes such as type or method, which CSS matches case-insensitively in HTML.
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class XPathToCss {
+    
+    // Attributes whose values CSS selectors match case-insensitively in HTML documents (HTML
+    // standard, "case-sensitivity of selectors"), while XPath compares them exactly
+    private static final Set<String> CASE_INSENSITIVE_ATTRIBUTES = new HashSet<>(Arrays.asList(
+            "accept", "accept-charset", "align", "alink", "axis", "bgcolor", "charset", "checked",
+            "clear", "codetype", "color", "compact", "declare", "defer", "dir", "direction", "disabled",
+            "enctype", "face", "frame", "hreflang", "http-equiv", "lang", "language", "link", "media",
+            "method", "multiple", "nohref", "noresize", "noshade", "nowrap", "readonly", "rel", "rev",
+            "rules", "scope", "scrolling", "selected", "shape", "target", "text", "type", "valign",
+            "valuetype", "vlink"));
+    
+    private final String xpath;
+    private int position;
+    
+    private XPathToCss(String xpath) {
+        this.xpath = xpath.trim();
+    }
+    
+    /**
+     * Compile an XPath to an equivalent CSS selector
+     * @param xpath XPath expression
+     * @return CSS selector, or null if the XPath has no exact CSS equivalent
+     */
+    public static String compile(String xpath) {
+        try {
+            return new XPathToCss(xpath).path();
+        } catch (IllegalArgumentException e) {
+            return null;
+        }
+    }
+    
+    /**
+     * Compile an XPath locator to an equivalent CSS locator
+     * @param locator Any locator
+     * @return CSS locator, or null if the locator is not an XPath or has no exact CSS equivalent
+     */
+    public static By compile(By locator) {
+        if (!(locator instanceof By.Remotable)) {
+            return null;
+        }
+        By.Remotable.Parameters parameters = ((By.Remotable) locator).getRemoteParameters();
+        if (!"xpath".equals(parameters.using())) {
+            return null;
+        }
+        String css = compile(String.valueOf(parameters.value()));
+        return css != null ? By.cssSelector(css) : null;
+    }
+    
+    private String path() {
+        if (!xpath.startsWith("//")) {
+            throw unsupported();
+        }
+        StringBuilder css = new StringBuilder();
+        position = 2;
+        css.append(step());
+        while (position < xpath.length()) {
+            if (xpath.startsWith("//", position)) {
+                position += 2;
+                css.append(' ');
+            } else if (xpath.charAt(position) == '/') {
+                position++;
+                css.append(" > ");
+            } else {
+                throw unsupported();
+            }
+            css.append(step());
+        }
+        return css.toString();
+    }
+    
+    private String step() {
+        StringBuilder css = new StringBuilder();
+        if (position < xpath.length() && xpath.charAt(position) == '*') {
+            position++;
+            css.append('*');
+        } else {
+            css.append(name());
+        }
+        while (position < xpath.length() && xpath.charAt(position) == '[') {
+            position++;
+            css.append(condition());
+            skipWhitespace();
+            expect(']');
+        }
+        return css.toString();
+    }
+    
+    private String condition() {
+        StringBuilder css = new StringBuilder(test());
+        skipWhitespace();
+        while (xpath.startsWith("and ", position)) {
+            position += 4;
+            css.append(test());
+            skipWhitespace();
+        }
+        return css.toString();
+    }
+    
+    private String test() {
+        skipWhitespace();
+        if (xpath.startsWith("contains(", position) || xpath.startsWith("starts-with(", position)) {
+            String operator = xpath.startsWith("contains(", position) ? "*=" : "^=";
+            position = xpath.indexOf('(', position) + 1;
+            skipWhitespace();
+            expect('@');
+            String attribute = name();
+            requireCaseSensitive(attribute);
+            skipWhitespace();
+            expect(',');
+            skipWhitespace();
+            String value = literal();
+            if (value.isEmpty()) {
+                // contains(@a, '') is true even without the attribute, [a*=''] never matches
+                throw unsupported();
+            }
+            skipWhitespace();
+            expect(')');
+            return "[" + attribute + operator + quote(value) + "]";
+        }
+        
+        expect('@');
+        String attribute = name();
+        skipWhitespace();
+        if (position < xpath.length() && xpath.charAt(position) == '=') {
+            requireCaseSensitive(attribute);
+            position++;
+            skipWhitespace();
+            return "[" + attribute + "=" + quote(literal()) + "]";
+        }
+        return "[" + attribute + "]";
+    }
+    
+    private void requireCaseSensitive(String attribute) {
+        if (CASE_INSENSITIVE_ATTRIBUTES.contains(attribute.toLowerCase(Locale.ROOT))) {
+            throw unsupported();
+        }
+    }
+    
+    private String name() {
+        int start = position;
+        while (position < xpath.length()) {
+            char c = xpath.charAt(position);
+            if (Character.isLetterOrDigit(c) || c == '-' || c == '_') {
+                position++;
+            } else {
+                break;
+            }
+        }
+        if (position == start || !Character.isLetter(xpath.charAt(start))) {
+            throw unsupported();
+        }
+        return xpath.substring(start, position);
+    }
+    
+    private String literal() {
+        char quote = position < xpath.length() ? xpath.charAt(position) : 0;
+        if (quote != '\'' && quote != '"') {
+            throw unsupported();
+        }
+        int end = xpath.indexOf(quote, position + 1);
+        if (end < 0) {
+            throw unsupported();
+        }
+        String value = xpath.substring(position + 1, end);
+        position = end + 1;
+        return value;
+    }
+    
+    private void expect(char expected) {
+        if (position >= xpath.length() || xpath.charAt(position) != expected) {
+            throw unsupported();
+        }
+        position++;
+    }
+    
+    private void skipWhitespace() {
+        while (position < xpath.length() && Character.isWhitespace(xpath.charAt(position))) {
+            position++;
+        }
+    }
+    
+    private static String quote(String value) {
+        return "'" + value.replace("\\", "\\\\").replace("'", "\\'") + "'";
+    }
+    
+    private IllegalArgumentException unsupported() {
+        return new IllegalArgumentException("No CSS equivalent at position " + position + ": " + xpath);
+    }
+}
\ No newline at end of file
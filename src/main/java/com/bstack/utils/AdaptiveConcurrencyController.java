@@ -0,0 +1,244 @@
+package com.bstack.utils;
+
+import com.aventstack.extentreports.ExtentTest;
+import org.openqa.selenium.TimeoutException;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.IOException;
+import java.lang.management.ManagementFactory;
+import java.lang.management.OperatingSystemMXBean;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Adaptive Concurrency Controller that limits how many browser sessions run at once.
+ * TestNG threads (thread.count) are the upper bound; the controller admits tests through
+ * a resizable gate whose limit follows an AIMD policy: it grows by one per round of healthy
+ * tests and halves on timeouts, CPU saturation or low available memory (memory.usage.threshold).
+ * Every limit change is logged and written to the report.
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class AdaptiveConcurrencyController {
+    
+    private static final Logger logger = LogManager.getLogger(AdaptiveConcurrencyController.class);
+    private static final Object lock = new Object();
+    private static final long MB = 1024L * 1024L;
+    private static final double CPU_SATURATED = 0.90;
+    private static final double CPU_HEADROOM = 0.75;
+    private static final double LATENCY_DEGRADATION = 1.5;
+    
+    private static final ThreadLocal<Boolean> admitted = new ThreadLocal<>();
+    // Fastest observed duration per test method, used as its healthy latency baseline
+    private static final Map<String, Long> latencyBaselines = new ConcurrentHashMap<>();
+    
+    private static int limit = -1;
+    private static int activeSessions;
+    private static int completedSinceChange;
+    private static int minLimit = Integer.MAX_VALUE;
+    private static int maxLimit;
+    private static int decisionCount;
+    
+    /**
+     * Wait until the current limit admits another browser session
+     */
+    public static void acquire() {
+        if (!ConfigReader.isAdaptiveConcurrencyEnabled()) {
+            return;
+        }
+        
+        synchronized (lock) {
+            if (limit < 0) {
+                limit = ConfigReader.getAdaptiveConcurrencyMin();
+                recordLimit();
+                logger.info("Adaptive concurrency started with limit {} (max {})", limit, ConfigReader.getThreadCount());
+            }
+            while (activeSessions >= limit) {
+                try {
+                    lock.wait();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for a session slot", e);
+                }
+            }
+            activeSessions++;
+            admitted.set(Boolean.TRUE);
+        }
+    }
+    
+    /**
+     * Release the session slot of the current thread and adapt the limit
+     * @param testName Test method name, used for its latency baseline
+     * @param durationMillis Test duration in milliseconds
+     * @param failure Throwable of the test or null if it passed
+     */
+    public static void release(String testName, long durationMillis, Throwable failure) {
+        if (admitted.get() == null) {
+            return;
+        }
+        admitted.remove();
+        
+        boolean timedOut = isTimeout(failure);
+        long baseline = latencyBaselines.merge(testName, durationMillis, Math::min);
+        boolean slow = durationMillis > baseline * LATENCY_DEGRADATION;
+        
+        String decision;
+        synchronized (lock) {
+            activeSessions--;
+            completedSinceChange++;
+            decision = adapt(timedOut, slow, durationMillis);
+            lock.notifyAll();
+        }
+        
+        if (decision != null) {
+            logger.info(decision);
+            ExtentTest test = ExtentReportManager.getTest();
+            ExtentReportManager.logInfo(test, decision);
+        }
+    }
+    
+    /**
+     * Write the observed limit range to the report system information
+     */
+    public static void reportSummary() {
+        synchronized (lock) {
+            if (limit < 0) {
+                return;
+            }
+            ExtentReportManager.addSystemInfo("Adaptive Concurrency",
+                    String.format("limit %d-%d, final %d, %d changes", minLimit, maxLimit, limit, decisionCount));
+        }
+    }
+    
+    /**
+     * Apply the AIMD policy, must be called while holding the lock
+     * @param timedOut true if the finished test hit a timeout
+     * @param slow true if the finished test was slower than its baseline allows
+     * @param durationMillis Test duration in milliseconds
+     * @return Decision description or null if the limit did not change
+     */
+    private static String adapt(boolean timedOut, boolean slow, long durationMillis) {
+        int maxSessions = ConfigReader.getThreadCount();
+        int floor = ConfigReader.getAdaptiveConcurrencyMin();
+        double cpuLoad = getCpuLoad();
+        long freeMemoryMb = getFreeMemoryMb();
+        long memoryThresholdMb = ConfigReader.getMemoryUsageThreshold();
+        
+        String reason = null;
+        int newLimit = limit;
+        if (timedOut) {
+            newLimit = Math.max(floor, limit / 2);
+            reason = "timeout";
+        } else if (cpuLoad >= CPU_SATURATED) {
+            newLimit = Math.max(floor, limit / 2);
+            reason = "CPU saturated";
+        } else if (freeMemoryMb >= 0 && freeMemoryMb < memoryThresholdMb) {
+            newLimit = Math.max(floor, limit / 2);
+            reason = "low available memory";
+        } else if (completedSinceChange >= limit && !slow && cpuLoad < CPU_HEADROOM
+                && (freeMemoryMb < 0 || freeMemoryMb > 2 * memoryThresholdMb)) {
+            newLimit = Math.min(maxSessions, limit + 1);
+            reason = "healthy round";
+        }
+        
+        if (newLimit == limit) {
+            return null;
+        }
+        
+        String decision = String.format("Concurrency limit %d -> %d (%s; cpu %.0f%%, available memory %d MB, last test %d ms)",
+                limit, newLimit, reason, cpuLoad * 100, freeMemoryMb, durationMillis);
+        limit = newLimit;
+        completedSinceChange = 0;
+        decisionCount++;
+        recordLimit();
+        return decision;
+    }
+    
+    /**
+     * Track the lowest and highest limit used during the run
+     */
+    private static void recordLimit() {
+        minLimit = Math.min(minLimit, limit);
+        maxLimit = Math.max(maxLimit, limit);
+    }
+    
+    /**
+     * Check if a test failed because of a timeout
+     * @param failure Throwable of the test
+     * @return boolean true if any cause is a timeout
+     */
+    private static boolean isTimeout(Throwable failure) {
+        for (Throwable cause = failure; cause != null; cause = cause.getCause()) {
+            if (cause instanceof TimeoutException || cause instanceof java.util.concurrent.TimeoutException
+                    || cause instanceof org.testng.internal.thread.ThreadTimeoutException) {
+                return true;
+            }
+        }
+        return false;
+    }
+    
+    /**
+     * Get recent host CPU load as a fraction of all cores. The CPU usage sampled since the
+     * previous call is preferred; the 1-minute load average lags by minutes and is only a fallback.
+     * @return CPU load between 0 and 1, or 0 if unavailable
+     */
+    @SuppressWarnings("deprecation")
+    private static double getCpuLoad() {
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            double cpuLoad = ((com.sun.management.OperatingSystemMXBean) os).getSystemCpuLoad();
+            if (cpuLoad >= 0) {
+                return cpuLoad;
+            }
+        }
+        double loadAverage = os.getSystemLoadAverage();
+        if (loadAverage >= 0) {
+            return loadAverage / os.getAvailableProcessors();
+        }
+        return 0;
+    }
+    
+    /**
+     * Get memory the host can still hand out without swapping. On Linux this is MemAvailable
+     * from /proc/meminfo, which counts reclaimable page cache; MemFree does not and stays low
+     * on a healthy host.
+     * @return Available memory in MB, or -1 if unavailable
+     */
+    @SuppressWarnings("deprecation")
+    private static long getFreeMemoryMb() {
+        long memAvailableKb = readMemAvailableKb();
+        if (memAvailableKb >= 0) {
+            return memAvailableKb / 1024;
+        }
+        OperatingSystemMXBean os = ManagementFactory.getOperatingSystemMXBean();
+        if (os instanceof com.sun.management.OperatingSystemMXBean) {
+            return ((com.sun.management.OperatingSystemMXBean) os).getFreePhysicalMemorySize() / MB;
+        }
+        return -1;
+    }
+    
+    /**
+     * Read MemAvailable from /proc/meminfo
+     * @return Available memory in kB, or -1 if the file or field is missing
+     */
+    private static long readMemAvailableKb() {
+        Path memInfo = Paths.get("/proc/meminfo");
+        if (!Files.isReadable(memInfo)) {
+            return -1;
+        }
+        try {
+            for (String line : Files.readAllLines(memInfo)) {
+                if (line.startsWith("MemAvailable:")) {
+                    return Long.parseLong(line.replaceAll("[^0-9]", ""));
+                }
+            }
+        } catch (IOException | NumberFormatException e) {
+            logger.debug("Failed to read MemAvailable from /proc/meminfo", e);
+        }
+        return -1;
+    }
+}
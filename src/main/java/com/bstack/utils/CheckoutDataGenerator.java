@@ -0,0 +1,238 @@
+package com.bstack.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.SplittableRandom;
+
+/**
+ * Checkout Data Generator utility class producing any number of deterministic checkout rows
+ * (first name, last name, address, state, postal code) from checkout.generated.seed.
+ * Every row is derived from the seed and its index alone, so a row can be reproduced on its own
+ * and rows can be generated by several JVM shards in any order. Rows are generated one at a time
+ * as the (sequential) data provider asks for them. Names, streets and
+ * states come from constant pools, and variable fields are built in a per-thread buffer, so a
+ * row costs little more than its parameter array.
+ * Boundary rows are still valid orders with one edge-case field (single letter, apostrophe,
+ * accents, maximum length, leading zero or ZIP+4); negative rows have one invalid field.
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class CheckoutDataGenerator {
+    
+    private static final Logger logger = LogManager.getLogger(CheckoutDataGenerator.class);
+    private static final ThreadLocal<StringBuilder> buffers = ThreadLocal.withInitial(() -> new StringBuilder(96));
+    
+    /**
+     * Kind of generated checkout row
+     */
+    public enum Variant {
+        VALID, BOUNDARY, NEGATIVE
+    }
+    
+    private static final String[] FIRST_NAMES = {
+        "James", "Mary", "Robert", "Patricia", "John", "Jennifer", "Michael", "Linda", "David", "Elizabeth",
+        "William", "Barbara", "Richard", "Susan", "Joseph", "Jessica", "Thomas", "Sarah", "Charles", "Karen",
+        "Daniel", "Nancy", "Matthew", "Lisa", "Anthony", "Betty", "Mark", "Sandra", "Steven", "Ashley",
+        "Paul", "Emily", "Andrew", "Donna", "Joshua", "Michelle", "Kevin", "Carol", "Brian", "Amanda"
+    };
+    private static final String[] LAST_NAMES = {
+        "Smith", "Johnson", "Williams", "Brown", "Jones", "Garcia", "Miller", "Davis", "Rodriguez", "Martinez",
+        "Hernandez", "Lopez", "Gonzalez", "Wilson", "Anderson", "Thomas", "Taylor", "Moore", "Jackson", "Martin",
+        "Lee", "Perez", "Thompson", "White", "Harris", "Sanchez", "Clark", "Ramirez", "Lewis", "Robinson",
+        "Walker", "Young", "Allen", "King", "Wright", "Scott", "Torres", "Nguyen", "Hill", "Flores"
+    };
+    private static final String[] STREETS = {
+        "Main", "Oak", "Pine", "Maple", "Cedar", "Elm", "Washington", "Lake", "Hill", "Park",
+        "Sunset", "River", "Church", "Spring", "Highland", "Forest", "Meadow", "Willow", "Chestnut", "Valley"
+    };
+    private static final String[] STREET_SUFFIXES = {"St", "Ave", "Rd", "Blvd", "Ln", "Dr", "Ct", "Way"};
+    // State names with the first three digits of a postal code range used there
+    private static final String[] STATES = {
+        "California", "New York", "Texas", "Florida", "Illinois", "Pennsylvania", "Ohio", "Georgia",
+        "Washington", "Massachusetts", "Arizona", "Colorado", "Oregon", "Michigan", "Virginia", "Nevada"
+    };
+    private static final int[] STATE_ZIP_PREFIXES = {
+        900, 100, 750, 330, 606, 191, 441, 303, 981, 21, 850, 802, 972, 482, 232, 891
+    };
+    
+    private static final String[] BOUNDARY_FIRST_NAMES = {"A", "Mary-Jane", "José", "Zoë", "Jean Luc"};
+    private static final String[] BOUNDARY_LAST_NAMES = {"O'Brien", "Ng", "van der Berg", "Müller", "Smith-Jones"};
+    private static final String[] BOUNDARY_ADDRESSES = {
+        "1 A St", "12 Rue de l'Église, Bât. B", "PO Box 7", "4000 North Avenue, Suite 1200, Building C, Floor 12"
+    };
+    private static final String MAX_LENGTH_NAME = repeat('N', 50);
+    
+    private static final String[] NEGATIVE_VALUES = {
+        "", "   ", repeat('X', 256), "<script>alert(1)</script>", "' OR '1'='1", null
+    };
+    private static final String[] NEGATIVE_POSTAL_CODES = {"ABCDE", "1234", "123456789012", "-1"};
+    
+    /**
+     * Stream generated rows for the checkout data provider: valid rows with
+     * checkout.generated.boundary.percent boundary rows mixed in
+     * @param rows Number of rows across all shards
+     * @return Lazy Iterator over this JVM's shard of the rows
+     */
+    public static Iterator<Object[]> checkoutRows(long rows) {
+        return stream(rows, false);
+    }
+    
+    /**
+     * Stream generated negative rows, each with one invalid field
+     * @param rows Number of rows across all shards
+     * @return Lazy Iterator over this JVM's shard of the rows
+     */
+    public static Iterator<Object[]> negativeRows(long rows) {
+        return stream(rows, true);
+    }
+    
+    /**
+     * Generate one row
+     * @param seed Dataset seed
+     * @param index Row index
+     * @param variant Kind of row
+     * @return First name, last name, address, state and postal code
+     */
+    public static Object[] row(long seed, long index, Variant variant) {
+        SplittableRandom random = new SplittableRandom(seed ^ (index * 0x9E3779B97F4A7C15L));
+        int state = random.nextInt(STATES.length);
+        Object[] row = {
+            FIRST_NAMES[random.nextInt(FIRST_NAMES.length)],
+            LAST_NAMES[random.nextInt(LAST_NAMES.length)],
+            address(random, index),
+            STATES[state],
+            postalCode(STATE_ZIP_PREFIXES[state], random.nextInt(100), -1)
+        };
+        
+        if (variant == Variant.BOUNDARY) {
+            applyBoundary(row, random, state, index);
+        } else if (variant == Variant.NEGATIVE) {
+            int field = random.nextInt(row.length);
+            row[field] = field == 4 && random.nextBoolean()
+                    ? NEGATIVE_POSTAL_CODES[random.nextInt(NEGATIVE_POSTAL_CODES.length)]
+                    : NEGATIVE_VALUES[random.nextInt(NEGATIVE_VALUES.length)];
+        }
+        return row;
+    }
+    
+    /**
+     * Replace one field of a valid row with an edge case that is still a valid order
+     * @param row Valid row
+     * @param random Row random
+     * @param state State index of the row
+     * @param index Row index, kept in boundary addresses so every order stays distinct
+     */
+    private static void applyBoundary(Object[] row, SplittableRandom random, int state, long index) {
+        switch (random.nextInt(6)) {
+            case 0:
+                row[0] = BOUNDARY_FIRST_NAMES[random.nextInt(BOUNDARY_FIRST_NAMES.length)];
+                break;
+            case 1:
+                row[1] = BOUNDARY_LAST_NAMES[random.nextInt(BOUNDARY_LAST_NAMES.length)];
+                break;
+            case 2:
+                row[random.nextInt(2)] = MAX_LENGTH_NAME;
+                break;
+            case 3:
+                StringBuilder buffer = buffers.get();
+                buffer.setLength(0);
+                row[2] = buffer.append(BOUNDARY_ADDRESSES[random.nextInt(BOUNDARY_ADDRESSES.length)])
+                        .append(" #").append(index + 1).toString();
+                break;
+            case 4:
+                // Lowest code of the range, keeps leading zeros (e.g. 02100)
+                row[4] = postalCode(STATE_ZIP_PREFIXES[state], 0, -1);
+                break;
+            default:
+                row[4] = postalCode(STATE_ZIP_PREFIXES[state], random.nextInt(100), random.nextInt(10_000));
+                break;
+        }
+    }
+    
+    /**
+     * Build a street address that is unique per row index
+     * @param random Row random
+     * @param index Row index
+     * @return Address line
+     */
+    private static String address(SplittableRandom random, long index) {
+        StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        buffer.append(1 + random.nextInt(9999)).append(' ')
+                .append(STREETS[random.nextInt(STREETS.length)]).append(' ')
+                .append(STREET_SUFFIXES[random.nextInt(STREET_SUFFIXES.length)])
+                .append(" Apt ").append(index + 1);
+        return buffer.toString();
+    }
+    
+    /**
+     * Build a zero-padded 5 digit postal code, optionally with a ZIP+4 extension
+     * @param prefix First three digits
+     * @param suffix Last two digits
+     * @param extension ZIP+4 extension or -1 for none
+     * @return Postal code
+     */
+    private static String postalCode(int prefix, int suffix, int extension) {
+        StringBuilder buffer = buffers.get();
+        buffer.setLength(0);
+        appendPadded(buffer, prefix * 100 + suffix, 5);
+        if (extension >= 0) {
+            appendPadded(buffer.append('-'), extension, 4);
+        }
+        return buffer.toString();
+    }
+    
+    private static void appendPadded(StringBuilder buffer, int value, int digits) {
+        for (int divisor = (int) Math.pow(10, digits - 1); divisor > 0; divisor /= 10) {
+            buffer.append((char) ('0' + value / divisor % 10));
+        }
+    }
+    
+    private static String repeat(char c, int count) {
+        StringBuilder builder = new StringBuilder(count);
+        for (int i = 0; i < count; i++) {
+            builder.append(c);
+        }
+        return builder.toString();
+    }
+    
+    /**
+     * Stream this JVM's shard of generated rows
+     * @param rows Number of rows across all shards
+     * @param negative true for negative rows, false for valid and boundary rows
+     * @return Lazy Iterator
+     * @throws IllegalArgumentException if data.shard.index is not a valid shard
+     */
+    private static Iterator<Object[]> stream(long rows, boolean negative) {
+        long seed = ConfigReader.getCheckoutGeneratedSeed();
+        int boundaryPercent = ConfigReader.getCheckoutGeneratedBoundaryPercent();
+        long[] range = DataFileProvider.getShardRange(rows);
+        long start = range[0];
+        long end = range[1];
+        logger.info("Generating {} checkout rows {} to {} with seed {}", negative ? "negative" : "valid/boundary",
+                start, end - 1, seed);
+        
+        return new Iterator<Object[]>() {
+            private long next = start;
+            
+            @Override
+            public boolean hasNext() {
+                return next < end;
+            }
+            
+            @Override
+            public Object[] next() {
+                if (next >= end) {
+                    throw new NoSuchElementException("All " + rows + " generated rows have been used");
+                }
+                long index = next++;
+                Variant variant = negative ? Variant.NEGATIVE
+                        : Math.floorMod(index * 0x9E3779B97F4A7C15L, 100) < boundaryPercent ? Variant.BOUNDARY : Variant.VALID;
+                return row(seed, index, variant);
+            }
+        };
+    }
+}
\ No newline at end of file
@@ -2,6 +2,8 @@ package com.bstack.utils;
 
 import java.io.FileInputStream;
 import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
 import java.util.Properties;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
@@ -53,12 +55,12 @@ public class ConfigReader {
     }
     
     /**
-     * Get property value by key
+     * Get property value by key, system properties (-Dkey=value) take precedence
      * @param key Property key
      * @return Property value
      */
     public static String getProperty(String key) {
-        String value = properties.getProperty(key);
+        String value = System.getProperty(key, properties.getProperty(key));
         if (value == null) {
             logger.warn("Property '{}' not found, returning null", key);
         }
@@ -72,7 +74,7 @@ public class ConfigReader {
      * @return Property value or default value
      */
     public static String getProperty(String key, String defaultValue) {
-        String value = properties.getProperty(key, defaultValue);
+        String value = System.getProperty(key, properties.getProperty(key, defaultValue));
         if (value.equals(defaultValue)) {
             logger.debug("Property '{}' not found, using default value: {}", key, defaultValue);
         }
@@ -98,6 +100,44 @@ public class ConfigReader {
         return defaultValue;
     }
     
+    /**
+     * Get long property value
+     * @param key Property key
+     * @param defaultValue Default value if property not found or invalid
+     * @return Long property value
+     */
+    public static long getLongProperty(String key, long defaultValue) {
+        String value = getProperty(key);
+        if (value != null) {
+            try {
+                return Long.parseLong(value);
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid long value for property '{}': {}, using default: {}", 
+                           key, value, defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+    
+    /**
+     * Get double property value
+     * @param key Property key
+     * @param defaultValue Default value if property not found or invalid
+     * @return Double property value
+     */
+    public static double getDoubleProperty(String key, double defaultValue) {
+        String value = getProperty(key);
+        if (value != null) {
+            try {
+                return Double.parseDouble(value);
+            } catch (NumberFormatException e) {
+                logger.warn("Invalid number value for property '{}': {}, using default: {}", 
+                           key, value, defaultValue);
+            }
+        }
+        return defaultValue;
+    }
+    
     /**
      * Get boolean property value
      * @param key Property key
@@ -154,6 +194,86 @@ public class ConfigReader {
         return getIntProperty("explicit.wait", 10);
     }
     
+    /**
+     * Check if explicit waits should use timeouts learned from the wait history
+     * @return Boolean wait tuning enabled
+     */
+    public static boolean isWaitTuningEnabled() {
+        return getBooleanProperty("wait.tuning.enabled", false);
+    }
+    
+    /**
+     * Get wait history file path
+     * @return Wait history file path
+     */
+    public static String getWaitHistoryFile() {
+        return getProperty("wait.history.file", "test-output/wait-history.properties");
+    }
+    
+    /**
+     * Get number of recorded waits needed before a tuned timeout is used
+     * @return Minimum sample count
+     */
+    public static int getWaitTuningMinSamples() {
+        return getIntProperty("wait.tuning.min.samples", 20);
+    }
+    
+    /**
+     * Get percentile of recorded wait durations a tuned timeout is based on
+     * @return Percentile between 0 and 100
+     */
+    public static double getWaitTuningPercentile() {
+        return getDoubleProperty("wait.tuning.percentile", 99.9);
+    }
+    
+    /**
+     * Get factor applied to the percentile to get a tuned timeout
+     * @return Safety factor
+     */
+    public static double getWaitTuningSafetyFactor() {
+        return getDoubleProperty("wait.tuning.safety.factor", 3.0);
+    }
+    
+    /**
+     * Get lower bound for tuned timeouts
+     * @return Minimum tuned timeout in milliseconds
+     */
+    public static int getWaitTuningMinTimeout() {
+        return getIntProperty("wait.tuning.min.timeout", 1000);
+    }
+    
+    /**
+     * Check if waits should block on in-page DOM events instead of polling the driver
+     * @return Boolean true if wait.mode is event
+     */
+    public static boolean isEventWaitMode() {
+        return "event".equalsIgnoreCase(getProperty("wait.mode", "event"));
+    }
+    
+    /**
+     * Check if page element proxies should reuse elements confirmed by the actionability check
+     * @return Boolean element cache enabled
+     */
+    public static boolean isElementCacheEnabled() {
+        return getBooleanProperty("element.cache.enabled", true);
+    }
+    
+    /**
+     * Check if @FindBy XPaths with an exact CSS equivalent should be compiled to CSS selectors
+     * @return Boolean locator CSS compilation enabled
+     */
+    public static boolean isLocatorCssCompileEnabled() {
+        return getBooleanProperty("locator.css.compile", true);
+    }
+    
+    /**
+     * Check if click, type and text actions should use the single script actionability engine
+     * @return Boolean actionability engine enabled
+     */
+    public static boolean isActionabilityEngineEnabled() {
+        return getBooleanProperty("actionability.engine", true);
+    }
+    
     /**
      * Get page load timeout
      * @return Page load timeout in seconds
@@ -162,6 +282,232 @@ public class ConfigReader {
         return getIntProperty("page.load.timeout", 30);
     }
     
+    /**
+     * Get the WebDriver page load strategy
+     * @return normal (wait for all assets), eager (wait for DOMContentLoaded) or none
+     */
+    public static String getPageLoadStrategy() {
+        return getProperty("page.load.strategy", "normal");
+    }
+    
+    /**
+     * Check if the lean network profile should block resources tests do not assert on
+     * @return Boolean lean network enabled
+     */
+    public static boolean isLeanNetworkEnabled() {
+        return getBooleanProperty("network.lean.enabled", false);
+    }
+    
+    /**
+     * Get URL patterns blocked by the lean network profile (* wildcards, comma separated)
+     * @return List of URL patterns
+     */
+    public static List<String> getLeanNetworkBlockedUrls() {
+        List<String> patterns = new ArrayList<>();
+        for (String pattern : getProperty("network.lean.blocked.urls",
+                "*.png,*.jpg,*.jpeg,*.gif,*.webp,*.svg,*.ico,*.woff,*.woff2,*.ttf,*.otf,"
+                + "*google-analytics.com*,*googletagmanager.com*,*doubleclick.net*").split(",")) {
+            if (!pattern.trim().isEmpty()) {
+                patterns.add(pattern.trim());
+            }
+        }
+        return patterns;
+    }
+    
+    /**
+     * Check if navigation and page-object action timings should be recorded
+     * @return Boolean performance metrics enabled
+     */
+    public static boolean isPerformanceMetricsEnabled() {
+        return getBooleanProperty("performance.metrics.enabled", false);
+    }
+    
+    /**
+     * Check if browser sessions should be pooled and reused across tests
+     * @return Boolean pooling enabled
+     */
+    public static boolean isDriverPoolEnabled() {
+        return getBooleanProperty("driver.pool.enabled", false);
+    }
+    
+    /**
+     * Get number of tests a pooled browser may serve before it is recycled
+     * @return Maximum leases per pooled driver
+     */
+    public static int getDriverPoolMaxLeases() {
+        return getIntProperty("driver.pool.max.leases", 25);
+    }
+    
+    /**
+     * Check if a pooled browser should be recycled after a failed test
+     * @return Boolean recycle on failure
+     */
+    public static boolean isDriverPoolRecycleOnFailure() {
+        return getBooleanProperty("driver.pool.recycle.on.failure", true);
+    }
+    
+    /**
+     * Get number of browsers launched in the background at suite start
+     * @return Pre-warm count, 0 disables pre-warming
+     */
+    public static int getDriverPrewarmCount() {
+        return getIntProperty("driver.prewarm.count", 0);
+    }
+    
+    /**
+     * Check if driver binaries must come from pinned local paths only
+     * @return Boolean offline mode
+     */
+    public static boolean isDriverOffline() {
+        return getBooleanProperty("driver.offline", false);
+    }
+    
+    /**
+     * Get pinned local driver binary path for a browser
+     * @param browserName Browser name (chrome, firefox, edge)
+     * @return Driver path or empty string if not pinned
+     */
+    public static String getDriverPath(String browserName) {
+        return getProperty("driver.path." + browserName, "");
+    }
+    
+    /**
+     * Check if browsers should be started on a Selenium Grid instead of locally
+     * @return Boolean grid enabled
+     */
+    public static boolean isGridEnabled() {
+        return getBooleanProperty("grid.enabled", false);
+    }
+    
+    /**
+     * Get Selenium Grid hub URL
+     * @return Hub URL
+     */
+    public static String getGridHubUrl() {
+        return getProperty("grid.hub.url", "http://localhost:4444/wd/hub");
+    }
+    
+    /**
+     * Get maximum time a test waits for a free grid slot
+     * @return Slot wait timeout in seconds
+     */
+    public static int getGridSlotWaitTimeout() {
+        return getIntProperty("grid.slot.wait.timeout", 300);
+    }
+    
+    /**
+     * Get interval between grid status queries while waiting for a slot
+     * @return Poll interval in milliseconds
+     */
+    public static int getGridStatusPollInterval() {
+        return getIntProperty("grid.status.poll.interval", 1000);
+    }
+    
+    /**
+     * Check if test methods should run in parallel
+     * @return Boolean parallel execution
+     */
+    public static boolean isParallelExecution() {
+        return getBooleanProperty("parallel.execution", false);
+    }
+    
+    /**
+     * Get number of parallel test threads, 0 or less means one per CPU core
+     * @return Thread count
+     */
+    public static int getThreadCount() {
+        int threadCount = getIntProperty("thread.count", 1);
+        return threadCount > 0 ? threadCount : Runtime.getRuntime().availableProcessors();
+    }
+    
+    /**
+     * Check if the number of concurrent browser sessions should adapt to host load
+     * @return Boolean adaptive concurrency enabled
+     */
+    public static boolean isAdaptiveConcurrencyEnabled() {
+        return getBooleanProperty("adaptive.concurrency.enabled", false);
+    }
+    
+    /**
+     * Get the lowest number of concurrent sessions the adaptive controller may use
+     * @return Minimum concurrent sessions
+     */
+    public static int getAdaptiveConcurrencyMin() {
+        return Math.max(1, getIntProperty("adaptive.concurrency.min", 1));
+    }
+    
+    /**
+     * Get free memory the host must keep before more sessions are started
+     * @return Memory threshold in MB
+     */
+    public static int getMemoryUsageThreshold() {
+        return getIntProperty("memory.usage.threshold", 512);
+    }
+    
+    /**
+     * Check if logged in sessions should be captured once and restored instead of logging in through the UI
+     * @return Boolean session vault enabled
+     */
+    public static boolean isSessionVaultEnabled() {
+        return getBooleanProperty("session.vault.enabled", true);
+    }
+    
+    /**
+     * Check if the checkout form should be filled in one batched script instead of typing each field
+     * @return Boolean checkout fast fill enabled
+     */
+    public static boolean isCheckoutFastFillEnabled() {
+        return getBooleanProperty("checkout.fast.fill", false);
+    }
+    
+    /**
+     * Get number of JVMs a file-backed dataset is split across
+     * @return Shard count, 1 runs every row
+     */
+    public static int getDataShardCount() {
+        return getIntProperty("data.shard.count", 1);
+    }
+    
+    /**
+     * Get the shard of file-backed datasets this JVM runs
+     * @return Zero-based shard index
+     */
+    public static int getDataShardIndex() {
+        return getIntProperty("data.shard.index", 0);
+    }
+    
+    /**
+     * Get number of generated checkout rows, 0 uses the checkout data file
+     * @return Generated row count
+     */
+    public static long getCheckoutGeneratedRows() {
+        return getLongProperty("checkout.generated.rows", 0);
+    }
+    
+    /**
+     * Get number of generated negative checkout rows, 0 uses the fixed negative rows
+     * @return Generated negative row count
+     */
+    public static long getCheckoutGeneratedNegativeRows() {
+        return getLongProperty("checkout.generated.negative.rows", 0);
+    }
+    
+    /**
+     * Get the seed generated checkout rows are derived from
+     * @return Seed
+     */
+    public static long getCheckoutGeneratedSeed() {
+        return getLongProperty("checkout.generated.seed", 42);
+    }
+    
+    /**
+     * Get the share of generated checkout rows that are boundary variants
+     * @return Percent between 0 and 100
+     */
+    public static int getCheckoutGeneratedBoundaryPercent() {
+        return getIntProperty("checkout.generated.boundary.percent", 10);
+    }
+    
     /**
      * Get default username
      * @return Default username
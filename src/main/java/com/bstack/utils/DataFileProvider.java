@@ -0,0 +1,286 @@
+package com.bstack.utils;
+
+import org.openqa.selenium.json.Json;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.BufferedReader;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.InputStreamReader;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+/**
+ * Data File Provider utility class that streams data provider rows from CSV or JSON Lines files
+ * (src/test/resources/testdata or a file path) through a lazy Iterator, so only the current row
+ * is held in memory. The rows stay lazy only behind a data provider that is not parallel; TestNG
+ * drains the iterator of a parallel provider up front. With data.shard.count above 1 every JVM
+ * runs only the contiguous index range data.shard.index of the rows, which is how large
+ * datasets are spread over several workers.
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class DataFileProvider {
+    
+    private static final Logger logger = LogManager.getLogger(DataFileProvider.class);
+    private static final String TEST_DATA_FOLDER = "testdata/";
+    private static final Json json = new Json();
+    
+    /**
+     * Stream the rows of a data file as data provider parameters
+     * @param fileName File name under testdata/ on the classpath, or a file path; .csv or .jsonl
+     * @param columns Columns passed to the test, in parameter order (CSV header or JSON keys);
+     *                none passes all columns in file order
+     * @return Lazy Iterator of parameter rows of this JVM's shard
+     */
+    public static Iterator<Object[]> stream(String fileName, String... columns) {
+        long[] range = getShardRange(fileName);
+        logger.info("Streaming test data from {} (rows {} to {})", fileName, range[0],
+                range[1] == Long.MAX_VALUE ? "end" : String.valueOf(range[1] - 1));
+        return new RowIterator(fileName, columns, range[0], range[1]);
+    }
+    
+    /**
+     * Get the index range of the rows this JVM runs
+     * @param fileName Data file
+     * @return Start (inclusive) and end (exclusive) row index
+     */
+    private static long[] getShardRange(String fileName) {
+        if (ConfigReader.getDataShardCount() <= 1) {
+            return new long[] {0, Long.MAX_VALUE};
+        }
+        return getShardRange(countRows(fileName));
+    }
+    
+    /**
+     * Get the index range of the rows this JVM runs out of a dataset of known size
+     * @param rows Number of rows across all shards
+     * @return Start (inclusive) and end (exclusive) row index
+     * @throws IllegalArgumentException if data.shard.index is not a valid shard
+     */
+    static long[] getShardRange(long rows) {
+        int shardCount = ConfigReader.getDataShardCount();
+        int shardIndex = ConfigReader.getDataShardIndex();
+        if (shardCount <= 1) {
+            return new long[] {0, rows};
+        }
+        if (shardIndex < 0 || shardIndex >= shardCount) {
+            throw new IllegalArgumentException("data.shard.index must be between 0 and " + (shardCount - 1));
+        }
+        return new long[] {rows * shardIndex / shardCount, rows * (shardIndex + 1) / shardCount};
+    }
+    
+    /**
+     * Count the data rows of a file without parsing them
+     * @param fileName Data file
+     * @return Number of non-blank rows, excluding the CSV header
+     */
+    private static long countRows(String fileName) {
+        long rows = 0;
+        try (BufferedReader reader = open(fileName)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                if (!line.trim().isEmpty()) {
+                    rows++;
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException("Failed to read test data: " + fileName, e);
+        }
+        return isCsv(fileName) ? Math.max(0, rows - 1) : rows;
+    }
+    
+    /**
+     * Open a data file from the file system or the testdata folder of the classpath
+     * @param fileName Data file
+     * @return BufferedReader positioned at the first line
+     * @throws IOException if the file cannot be found or opened
+     */
+    private static BufferedReader open(String fileName) throws IOException {
+        File file = new File(fileName);
+        InputStream stream = file.isFile()
+                ? new FileInputStream(file)
+                : DataFileProvider.class.getClassLoader().getResourceAsStream(TEST_DATA_FOLDER + fileName);
+        if (stream == null) {
+            throw new IOException("Test data file not found: " + fileName);
+        }
+        return new BufferedReader(new InputStreamReader(stream, StandardCharsets.UTF_8));
+    }
+    
+    private static boolean isCsv(String fileName) {
+        return fileName.toLowerCase().endsWith(".csv");
+    }
+    
+    /**
+     * Split one CSV line into fields, supporting double-quoted fields with "" escapes
+     * @param line CSV line
+     * @param fields List cleared and filled with the fields
+     */
+    static void parseCsvLine(String line, List<String> fields) {
+        fields.clear();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+        for (int i = 0; i < line.length(); i++) {
+            char c = line.charAt(i);
+            if (quoted) {
+                if (c == '"' && i + 1 < line.length() && line.charAt(i + 1) == '"') {
+                    field.append('"');
+                    i++;
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append(c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else {
+                field.append(c);
+            }
+        }
+        fields.add(field.toString());
+    }
+    
+    /**
+     * Lazy row iterator over one data file
+     */
+    private static class RowIterator implements Iterator<Object[]> {
+        private final String fileName;
+        private final boolean csv;
+        private final long start;
+        private final long end;
+        private final List<String> fields = new ArrayList<>();
+        private String[] columns;
+        private int[] columnIndexes;
+        private BufferedReader reader;
+        private Object[] next;
+        private long rowIndex;
+        
+        RowIterator(String fileName, String[] columns, long start, long end) {
+            this.fileName = fileName;
+            this.csv = isCsv(fileName);
+            this.columns = columns;
+            this.start = start;
+            this.end = end;
+        }
+        
+        @Override
+        public boolean hasNext() {
+            if (next == null) {
+                next = readRow();
+            }
+            return next != null;
+        }
+        
+        @Override
+        public Object[] next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException("No more rows in " + fileName);
+            }
+            Object[] row = next;
+            next = null;
+            return row;
+        }
+        
+        /**
+         * Read the next row of the shard range, closing the file at the end
+         * @return Parameter row or null when the range is exhausted
+         */
+        private Object[] readRow() {
+            try {
+                if (reader == null) {
+                    if (rowIndex >= end) {
+                        return null;
+                    }
+                    reader = open(fileName);
+                    if (csv) {
+                        readHeader();
+                    }
+                }
+                
+                String line;
+                while (rowIndex < end && (line = reader.readLine()) != null) {
+                    if (line.trim().isEmpty()) {
+                        continue;
+                    }
+                    if (rowIndex++ < start) {
+                        continue;
+                    }
+                    return csv ? toCsvRow(line) : toJsonRow(line);
+                }
+                close();
+                return null;
+            } catch (IOException e) {
+                close();
+                throw new UncheckedIOException("Failed to read test data: " + fileName, e);
+            }
+        }
+        
+        /**
+         * Map the requested columns to their CSV header positions
+         * @throws IOException if the header cannot be read
+         */
+        private void readHeader() throws IOException {
+            String header = reader.readLine();
+            if (header == null) {
+                throw new IOException("Test data file has no header: " + fileName);
+            }
+            parseCsvLine(header, fields);
+            List<String> names = new ArrayList<>(fields);
+            if (columns.length == 0) {
+                columns = names.toArray(new String[0]);
+            }
+            columnIndexes = new int[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                columnIndexes[i] = names.indexOf(columns[i]);
+                if (columnIndexes[i] < 0) {
+                    throw new IOException("Column " + columns[i] + " not found in " + fileName + " header " + names);
+                }
+            }
+        }
+        
+        private Object[] toCsvRow(String line) {
+            parseCsvLine(line, fields);
+            Object[] row = new Object[columnIndexes.length];
+            for (int i = 0; i < columnIndexes.length; i++) {
+                row[i] = columnIndexes[i] < fields.size() ? fields.get(columnIndexes[i]) : "";
+            }
+            return row;
+        }
+        
+        private Object[] toJsonRow(String line) {
+            Map<String, Object> values = json.toType(line, Json.MAP_TYPE);
+            if (columns.length == 0) {
+                columns = values.keySet().toArray(new String[0]);
+            }
+            Object[] row = new Object[columns.length];
+            for (int i = 0; i < columns.length; i++) {
+                row[i] = values.get(columns[i]);
+            }
+            return row;
+        }
+        
+        private void close() {
+            if (reader != null) {
+                try {
+                    reader.close();
+                } catch (IOException e) {
+                    logger.debug("Failed to close test data file {}", fileName, e);
+                }
+            }
+            // Mark as exhausted so a later hasNext() does not reopen the file
+            rowIndex = end;
+            reader = null;
+        }
+    }
+}
\ No newline at end of file
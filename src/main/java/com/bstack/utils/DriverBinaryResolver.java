@@ -0,0 +1,100 @@
+package com.bstack.utils;
+
+import io.github.bonigarcia.wdm.WebDriverManager;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.File;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Driver Binary Resolver utility class that locates the chromedriver/geckodriver/msedgedriver
+ * executable once per JVM and memoizes the result.
+ * A pinned path from config (driver.path.&lt;browser&gt;) is used as-is; in offline mode
+ * (driver.offline=true) the pinned path is mandatory and WebDriverManager is never called.
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class DriverBinaryResolver {
+    
+    private static final Logger logger = LogManager.getLogger(DriverBinaryResolver.class);
+    private static final Map<String, String> resolvedPaths = new ConcurrentHashMap<>();
+    
+    /**
+     * Resolve the driver binary for a browser and register it with Selenium
+     * @param browserName Browser name (chrome, firefox, edge)
+     * @return Absolute path of the driver binary
+     */
+    public static String resolve(String browserName) {
+        return resolvedPaths.computeIfAbsent(browserName, DriverBinaryResolver::resolveBinary);
+    }
+    
+    /**
+     * Resolve driver binary without caching
+     * @param browserName Browser name
+     * @return Absolute path of the driver binary
+     */
+    private static String resolveBinary(String browserName) {
+        String systemProperty = getDriverSystemProperty(browserName);
+        String pinnedPath = ConfigReader.getDriverPath(browserName);
+        
+        if (pinnedPath != null && !pinnedPath.isEmpty()) {
+            File binary = new File(pinnedPath);
+            if (!binary.isFile() || !binary.canExecute()) {
+                logger.error("Pinned {} driver not found or not executable: {}", browserName, pinnedPath);
+                throw new IllegalStateException("Pinned driver binary not usable: " + pinnedPath);
+            }
+            System.setProperty(systemProperty, binary.getAbsolutePath());
+            logger.info("Using pinned {} driver: {}", browserName, binary.getAbsolutePath());
+            return binary.getAbsolutePath();
+        }
+        
+        if (ConfigReader.isDriverOffline()) {
+            logger.error("Offline mode requires driver.path.{} to be configured", browserName);
+            throw new IllegalStateException("No pinned driver path for " + browserName + " in offline mode");
+        }
+        
+        WebDriverManager manager = getWebDriverManager(browserName);
+        manager.setup();
+        String downloadedPath = manager.getDownloadedDriverPath();
+        logger.info("Resolved {} driver via WebDriverManager: {}", browserName, downloadedPath);
+        return downloadedPath;
+    }
+    
+    /**
+     * Get WebDriverManager instance for a browser
+     * @param browserName Browser name
+     * @return WebDriverManager instance
+     */
+    private static WebDriverManager getWebDriverManager(String browserName) {
+        switch (browserName) {
+            case "chrome":
+                return WebDriverManager.chromedriver();
+            case "firefox":
+                return WebDriverManager.firefoxdriver();
+            case "edge":
+                return WebDriverManager.edgedriver();
+            default:
+                throw new IllegalArgumentException("Unsupported browser: " + browserName);
+        }
+    }
+    
+    /**
+     * Get the Selenium system property that points at the driver binary
+     * @param browserName Browser name
+     * @return System property name
+     */
+    private static String getDriverSystemProperty(String browserName) {
+        switch (browserName) {
+            case "chrome":
+                return "webdriver.chrome.driver";
+            case "firefox":
+                return "webdriver.gecko.driver";
+            case "edge":
+                return "webdriver.edge.driver";
+            default:
+                throw new IllegalArgumentException("Unsupported browser: " + browserName);
+        }
+    }
+}
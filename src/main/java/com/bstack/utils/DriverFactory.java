@@ -0,0 +1,202 @@
+package com.bstack.utils;
+
+import org.openqa.selenium.Capabilities;
+import org.openqa.selenium.PageLoadStrategy;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.chrome.ChromeDriver;
+import org.openqa.selenium.chrome.ChromeOptions;
+import org.openqa.selenium.firefox.FirefoxDriver;
+import org.openqa.selenium.firefox.FirefoxOptions;
+import org.openqa.selenium.edge.EdgeDriver;
+import org.openqa.selenium.edge.EdgeOptions;
+import org.openqa.selenium.remote.RemoteWebDriver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.net.MalformedURLException;
+import java.net.URL;
+import java.time.Duration;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.function.Consumer;
+
+/**
+ * Driver Factory utility class for creating and configuring WebDriver instances
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class DriverFactory {
+    
+    private static final Logger logger = LogManager.getLogger(DriverFactory.class);
+    private static final Set<WebDriver> remoteDrivers = ConcurrentHashMap.newKeySet();
+    private static final List<Consumer<WebDriver>> quitListeners = new CopyOnWriteArrayList<>();
+    
+    /**
+     * Create a new browser session based on the configured browser
+     * @return Configured WebDriver instance
+     */
+    public static WebDriver createDriver() {
+        WebDriver driver = initializeDriver(ConfigReader.getBrowser().toLowerCase(), ConfigReader.isHeadless());
+        configureDriver(driver);
+        return driver;
+    }
+    
+    /**
+     * Initialize WebDriver based on browser name
+     * @param browserName Browser name (chrome, firefox, edge)
+     * @param headless Run browser in headless mode
+     * @return WebDriver instance
+     */
+    private static WebDriver initializeDriver(String browserName, boolean headless) {
+        logger.info("Initializing {} driver", browserName);
+        
+        try {
+            WebDriver driver;
+            switch (browserName) {
+                case "chrome":
+                    ChromeOptions chromeOptions = new ChromeOptions();
+                    if (headless) {
+                        chromeOptions.addArguments("--headless");
+                    }
+                    chromeOptions.addArguments("--no-sandbox");
+                    chromeOptions.addArguments("--disable-dev-shm-usage");
+                    chromeOptions.addArguments("--disable-gpu");
+                    chromeOptions.addArguments("--window-size=1920,1080");
+                    chromeOptions.setPageLoadStrategy(getPageLoadStrategy());
+                    if (ConfigReader.isGridEnabled()) {
+                        driver = createRemoteDriver(chromeOptions);
+                    } else {
+                        DriverBinaryResolver.resolve("chrome");
+                        driver = new ChromeDriver(chromeOptions);
+                    }
+                    break;
+                
+                case "firefox":
+                    FirefoxOptions firefoxOptions = new FirefoxOptions();
+                    if (headless) {
+                        firefoxOptions.addArguments("--headless");
+                    }
+                    firefoxOptions.addArguments("--width=1920");
+                    firefoxOptions.addArguments("--height=1080");
+                    firefoxOptions.setPageLoadStrategy(getPageLoadStrategy());
+                    if (ConfigReader.isGridEnabled()) {
+                        driver = createRemoteDriver(firefoxOptions);
+                    } else {
+                        DriverBinaryResolver.resolve("firefox");
+                        driver = new FirefoxDriver(firefoxOptions);
+                    }
+                    break;
+                
+                case "edge":
+                    EdgeOptions edgeOptions = new EdgeOptions();
+                    if (headless) {
+                        edgeOptions.addArguments("--headless");
+                    }
+                    edgeOptions.addArguments("--no-sandbox");
+                    edgeOptions.addArguments("--disable-dev-shm-usage");
+                    edgeOptions.addArguments("--window-size=1920,1080");
+                    edgeOptions.setPageLoadStrategy(getPageLoadStrategy());
+                    if (ConfigReader.isGridEnabled()) {
+                        driver = createRemoteDriver(edgeOptions);
+                    } else {
+                        DriverBinaryResolver.resolve("edge");
+                        driver = new EdgeDriver(edgeOptions);
+                    }
+                    break;
+                
+                default:
+                    logger.error("Unsupported browser: {}", browserName);
+                    throw new IllegalArgumentException("Unsupported browser: " + browserName);
+            }
+            
+            logger.info("{} driver initialized successfully", browserName);
+            return driver;
+        
+        } catch (Exception e) {
+            logger.error("Failed to initialize {} driver", browserName, e);
+            throw new RuntimeException("Driver initialization failed", e);
+        }
+    }
+    
+    /**
+     * Get the configured page load strategy
+     * @return PageLoadStrategy, NORMAL if the configured value is unknown
+     */
+    private static PageLoadStrategy getPageLoadStrategy() {
+        PageLoadStrategy strategy = PageLoadStrategy.fromString(ConfigReader.getPageLoadStrategy().toLowerCase());
+        if (strategy == null) {
+            logger.warn("Unknown page load strategy '{}', using normal", ConfigReader.getPageLoadStrategy());
+            return PageLoadStrategy.NORMAL;
+        }
+        return strategy;
+    }
+    
+    /**
+     * Create a RemoteWebDriver session on the Selenium Grid once a matching slot is free
+     * @param options Browser options sent as session capabilities
+     * @return RemoteWebDriver instance
+     * @throws MalformedURLException if grid.hub.url is not a valid URL
+     */
+    private static WebDriver createRemoteDriver(Capabilities options) throws MalformedURLException {
+        URL hubUrl = new URL(ConfigReader.getGridHubUrl());
+        GridSlotScheduler.acquireSlot(options.getBrowserName());
+        
+        boolean started = false;
+        try {
+            RemoteWebDriver driver = new RemoteWebDriver(hubUrl, options);
+            remoteDrivers.add(driver);
+            started = true;
+            logger.info("Started remote {} session {} on {}", options.getBrowserName(), driver.getSessionId(), hubUrl);
+            return driver;
+        } finally {
+            GridSlotScheduler.sessionStarted(started);
+        }
+    }
+    
+    /**
+     * Configure WebDriver with timeouts and window settings
+     * @param driver WebDriver instance to configure
+     */
+    private static void configureDriver(WebDriver driver) {
+        logger.info("Configuring driver settings");
+        
+        // Set timeouts
+        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(ConfigReader.getImplicitWait()));
+        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(ConfigReader.getPageLoadTimeout()));
+        
+        // Maximize window if not headless
+        if (!ConfigReader.isHeadless()) {
+            driver.manage().window().maximize();
+        }
+        
+        logger.info("Driver configuration completed");
+    }
+    
+    /**
+     * Quit a browser session, ignoring errors from sessions that are already gone
+     * @param driver WebDriver instance to quit
+     */
+    public static void quitDriver(WebDriver driver) {
+        try {
+            driver.quit();
+            logger.info("Browser closed successfully");
+        } catch (Exception e) {
+            logger.warn("Failed to quit browser cleanly", e);
+        } finally {
+            if (remoteDrivers.remove(driver)) {
+                GridSlotScheduler.releaseSlot();
+            }
+            quitListeners.forEach(listener -> listener.accept(driver));
+        }
+    }
+    
+    /**
+     * Register a callback invoked after a browser session is quit, used to drop per-driver caches
+     * @param listener Callback receiving the quit driver
+     */
+    public static void addQuitListener(Consumer<WebDriver> listener) {
+        quitListeners.add(listener);
+    }
+}
\ No newline at end of file
@@ -0,0 +1,166 @@
+package com.bstack.utils;
+
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.util.Map;
+import java.util.Queue;
+import java.util.concurrent.BlockingDeque;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.LinkedBlockingDeque;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Driver Pool utility class for leasing browser sessions to tests.
+ * Released drivers are reset (cookies, storage, about:blank) and reused until
+ * the recycle policy retires them, which avoids a browser cold start per test.
+ * When pooling is disabled every driver is quit on release.
+ * Browsers can also be pre-warmed in the background at suite start so the
+ * first tests find a ready session.
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class DriverPool {
+    
+    private static final Logger logger = LogManager.getLogger(DriverPool.class);
+    private static final BlockingDeque<WebDriver> idleDrivers = new LinkedBlockingDeque<>();
+    private static final Map<WebDriver, Integer> leaseCounts = new ConcurrentHashMap<>();
+    private static final Queue<CompletableFuture<WebDriver>> warmingDrivers = new ConcurrentLinkedQueue<>();
+    
+    private static final String CLEAR_STORAGE_SCRIPT =
+            "try { window.localStorage.clear(); window.sessionStorage.clear(); } catch (e) {}";
+    
+    /**
+     * Start browsers in the background so they are ready when the first tests lease them
+     * @param count Number of browsers to launch
+     */
+    public static void prewarm(int count) {
+        if (count <= 0) {
+            return;
+        }
+        
+        int threads = Math.min(count, Runtime.getRuntime().availableProcessors());
+        AtomicInteger threadNumber = new AtomicInteger();
+        ExecutorService executor = Executors.newFixedThreadPool(threads, runnable -> {
+            Thread thread = new Thread(runnable, "driver-prewarm-" + threadNumber.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        });
+        for (int i = 0; i < count; i++) {
+            warmingDrivers.add(CompletableFuture.supplyAsync(DriverFactory::createDriver, executor));
+        }
+        executor.shutdown();
+        logger.info("Pre-warming {} browser sessions on {} threads", count, threads);
+    }
+    
+    /**
+     * Lease a driver from the pool, preferring idle then pre-warmed browsers
+     * and starting a new one only if neither is available
+     * @return WebDriver instance reserved for the calling test
+     */
+    public static WebDriver acquire() {
+        WebDriver driver = idleDrivers.pollFirst();
+        if (driver != null) {
+            logger.info("Reusing pooled browser session");
+        } else if ((driver = takeWarmDriver()) != null) {
+            logger.info("Using pre-warmed browser session");
+        } else {
+            driver = DriverFactory.createDriver();
+            logger.info("Started new pooled browser session");
+        }
+        leaseCounts.merge(driver, 1, Integer::sum);
+        return driver;
+    }
+    
+    /**
+     * Return a leased driver to the pool
+     * @param driver WebDriver instance previously obtained from acquire()
+     * @param testFailed true if the test that used the driver failed
+     */
+    public static void release(WebDriver driver, boolean testFailed) {
+        if (driver == null) {
+            return;
+        }
+        
+        int leases = leaseCounts.getOrDefault(driver, 0);
+        if (!ConfigReader.isDriverPoolEnabled()) {
+            retire(driver, "pooling disabled");
+        } else if (testFailed && ConfigReader.isDriverPoolRecycleOnFailure()) {
+            retire(driver, "test failed");
+        } else if (leases >= ConfigReader.getDriverPoolMaxLeases()) {
+            retire(driver, "reached " + leases + " leases");
+        } else if (!resetDriver(driver)) {
+            retire(driver, "reset failed");
+        } else {
+            idleDrivers.offerFirst(driver);
+            logger.debug("Returned browser to pool after {} leases", leases);
+        }
+    }
+    
+    /**
+     * Quit every idle and unused pre-warmed driver, called once at the end of the suite
+     */
+    public static void shutdown() {
+        WebDriver driver;
+        while ((driver = idleDrivers.pollFirst()) != null) {
+            retire(driver, "suite finished");
+        }
+        while ((driver = takeWarmDriver()) != null) {
+            retire(driver, "unused pre-warmed session");
+        }
+    }
+    
+    /**
+     * Claim the next pre-warmed browser, waiting for its launch to finish if needed
+     * @return WebDriver instance or null if no pre-warmed browser is left
+     */
+    private static WebDriver takeWarmDriver() {
+        CompletableFuture<WebDriver> warming;
+        while ((warming = warmingDrivers.poll()) != null) {
+            try {
+                return warming.join();
+            } catch (Exception e) {
+                logger.warn("Pre-warmed browser failed to start", e);
+            }
+        }
+        return null;
+    }
+    
+    /**
+     * Clear session state so the next test starts from a clean browser
+     * @param driver WebDriver instance to reset
+     * @return boolean true if the driver is clean and reusable
+     */
+    private static boolean resetDriver(WebDriver driver) {
+        try {
+            if (driver.getWindowHandles().size() > 1) {
+                logger.debug("Driver has extra windows open, not reusing it");
+                return false;
+            }
+            driver.manage().deleteAllCookies();
+            ((JavascriptExecutor) driver).executeScript(CLEAR_STORAGE_SCRIPT);
+            driver.get("about:blank");
+            return true;
+        } catch (Exception e) {
+            logger.warn("Failed to reset pooled browser", e);
+            return false;
+        }
+    }
+    
+    /**
+     * Remove driver from the pool and quit the browser
+     * @param driver WebDriver instance to retire
+     * @param reason Reason logged for the recycle decision
+     */
+    private static void retire(WebDriver driver, String reason) {
+        leaseCounts.remove(driver);
+        logger.info("Closing browser ({})", reason);
+        DriverFactory.quitDriver(driver);
+    }
+}
\ No newline at end of file
@@ -21,13 +21,14 @@ public class ExtentReportManager {
     private static final Logger logger = LogManager.getLogger(ExtentReportManager.class);
     private static ExtentReports extentReports;
     private static ExtentSparkReporter sparkReporter;
+    private static final ThreadLocal<ExtentTest> currentTest = new ThreadLocal<>();
     private static final String REPORTS_FOLDER = "test-output/extent-reports/";
     private static final String REPORT_NAME = "BStackDemo-Test-Report";
     
     /**
      * Initialize ExtentReports
      */
-    public static void initializeReport() {
+    public static synchronized void initializeReport() {
         if (extentReports == null) {
             try {
                 // Create reports directory if it doesn't exist
@@ -51,7 +52,7 @@ public class ExtentReportManager {
                 setSystemInformation();
                 
                 logger.info("ExtentReports initialized successfully. Report path: {}", reportPath);
-                
+            
             } catch (Exception e) {
                 logger.error("Failed to initialize ExtentReports", e);
             }
@@ -102,21 +103,48 @@ public class ExtentReportManager {
     }
     
     /**
-     * Create a test entry in the report
+     * Add an entry to the system information section of the report
+     * @param name Entry name
+     * @param value Entry value
+     */
+    public static synchronized void addSystemInfo(String name, String value) {
+        getExtentReports().setSystemInfo(name, value);
+    }
+    
+    /**
+     * Create a test entry in the report and bind it to the current thread
      * @param testName Test name
      * @param description Test description
      * @return ExtentTest instance
      */
     public static ExtentTest createTest(String testName, String description) {
-        if (extentReports == null) {
-            initializeReport();
+        ExtentTest test;
+        synchronized (ExtentReportManager.class) {
+            if (extentReports == null) {
+                initializeReport();
+            }
+            test = extentReports.createTest(testName, description);
         }
-        
-        ExtentTest test = extentReports.createTest(testName, description);
+        currentTest.set(test);
         logger.debug("Created test entry: {}", testName);
         return test;
     }
     
+    /**
+     * Get the test entry bound to the current thread
+     * @return ExtentTest instance or null if no test was created on this thread
+     */
+    public static ExtentTest getTest() {
+        return currentTest.get();
+    }
+    
+    /**
+     * Unbind the test entry from the current thread
+     */
+    public static void removeTest() {
+        currentTest.remove();
+    }
+    
     /**
      * Create a test entry with category
      * @param testName Test name
@@ -134,7 +162,7 @@ public class ExtentReportManager {
     /**
      * Flush the report (write to file)
      */
-    public static void flushReport() {
+    public static synchronized void flushReport() {
         if (extentReports != null) {
             extentReports.flush();
             logger.info("ExtentReports flushed successfully");
@@ -145,7 +173,7 @@ public class ExtentReportManager {
      * Get ExtentReports instance
      * @return ExtentReports instance
      */
-    public static ExtentReports getExtentReports() {
+    public static synchronized ExtentReports getExtentReports() {
         if (extentReports == null) {
             initializeReport();
         }
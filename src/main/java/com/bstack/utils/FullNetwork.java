@@ -0,0 +1,18 @@
+package com.bstack.utils;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Opts a test method or test class out of the lean network profile, so the browser loads
+ * every image, font and third-party script (e.g. tests that assert on product images)
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+@Retention(RetentionPolicy.RUNTIME)
+@Target({ElementType.METHOD, ElementType.TYPE})
+public @interface FullNetwork {
+}
\ No newline at end of file
@@ -0,0 +1,159 @@
+package com.bstack.utils;
+
+import org.openqa.selenium.json.Json;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Grid Slot Scheduler that queues new remote sessions against the real capacity of the
+ * Selenium Grid. Free slots are read from the grid /status endpoint, so a test only asks
+ * for a session when a node can run it instead of piling up in the grid's session queue.
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class GridSlotScheduler {
+    
+    private static final Logger logger = LogManager.getLogger(GridSlotScheduler.class);
+    private static final Object lock = new Object();
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .build();
+    
+    // Sessions reserved by this JVM that the grid does not report as busy yet
+    private static int pendingSessions;
+    // Reservations handed to the grid so far; a status read older than the last hand-off is stale
+    private static long handedOff;
+    
+    /**
+     * Block until the grid has a free slot for the browser and reserve it
+     * @param browserName Browser name from the session capabilities
+     */
+    public static void acquireSlot(String browserName) {
+        long deadline = System.currentTimeMillis() + ConfigReader.getGridSlotWaitTimeout() * 1000L;
+        int pollInterval = ConfigReader.getGridStatusPollInterval();
+        
+        while (true) {
+            long handedOffBeforeQuery;
+            synchronized (lock) {
+                handedOffBeforeQuery = handedOff;
+            }
+            // The /status round trip runs outside the lock so waiting tests and releases are not serialized behind it
+            int freeSlots = queryFreeSlots(browserName);
+            
+            synchronized (lock) {
+                if (handedOff != handedOffBeforeQuery) {
+                    // A reservation turned into a session while the status was in flight, read it again
+                    continue;
+                }
+                if (freeSlots < 0 || freeSlots - pendingSessions > 0) {
+                    pendingSessions++;
+                    logger.debug("Reserved grid slot for {} ({} free, {} pending)", browserName, freeSlots, pendingSessions);
+                    return;
+                }
+                
+                long remaining = deadline - System.currentTimeMillis();
+                if (remaining <= 0) {
+                    logger.error("No free grid slot for {} within {}s", browserName, ConfigReader.getGridSlotWaitTimeout());
+                    throw new IllegalStateException("Timed out waiting for a free grid slot for " + browserName);
+                }
+                
+                logger.info("Grid at capacity for {}, waiting for a free slot", browserName);
+                try {
+                    lock.wait(Math.min(remaining, pollInterval));
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                    throw new IllegalStateException("Interrupted while waiting for a grid slot", e);
+                }
+            }
+        }
+    }
+    
+    /**
+     * Mark a reserved slot as handed to the grid, either as a running session or a failed start
+     * @param started true if the session was created
+     */
+    public static void sessionStarted(boolean started) {
+        synchronized (lock) {
+            pendingSessions--;
+            handedOff++;
+            if (!started) {
+                lock.notifyAll();
+            }
+        }
+    }
+    
+    /**
+     * Notify waiting tests that a remote session ended and its slot is free again
+     */
+    public static void releaseSlot() {
+        synchronized (lock) {
+            lock.notifyAll();
+        }
+    }
+    
+    /**
+     * Count free slots matching the browser on nodes that are up
+     * @param browserName Browser name
+     * @return Number of free slots, or -1 if the grid status could not be read
+     */
+    @SuppressWarnings("unchecked")
+    private static int queryFreeSlots(String browserName) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(getStatusUri())
+                    .timeout(Duration.ofSeconds(5))
+                    .GET()
+                    .build();
+            HttpResponse<String> response = httpClient.send(request, HttpResponse.BodyHandlers.ofString());
+            
+            Map<String, Object> status = new Json().toType(response.body(), Json.MAP_TYPE);
+            Map<String, Object> value = (Map<String, Object>) status.getOrDefault("value", Collections.emptyMap());
+            List<Map<String, Object>> nodes = (List<Map<String, Object>>) value.get("nodes");
+            if (nodes == null) {
+                logger.warn("Grid status has no node information, relying on the grid session queue");
+                return -1;
+            }
+            
+            int freeSlots = 0;
+            for (Map<String, Object> node : nodes) {
+                if (!"UP".equals(node.get("availability"))) {
+                    continue;
+                }
+                List<Map<String, Object>> slots = (List<Map<String, Object>>) node.getOrDefault("slots", Collections.emptyList());
+                for (Map<String, Object> slot : slots) {
+                    Map<String, Object> stereotype = (Map<String, Object>) slot.getOrDefault("stereotype", Collections.emptyMap());
+                    if (slot.get("session") == null && browserName.equalsIgnoreCase(String.valueOf(stereotype.get("browserName")))) {
+                        freeSlots++;
+                    }
+                }
+            }
+            return freeSlots;
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        } catch (Exception e) {
+            logger.warn("Failed to read grid status, relying on the grid session queue", e);
+            return -1;
+        }
+    }
+    
+    /**
+     * Build the /status URI from the configured hub URL (with or without the /wd/hub suffix)
+     * @return Status endpoint URI
+     */
+    private static URI getStatusUri() {
+        String hubUrl = ConfigReader.getGridHubUrl().replaceAll("/+$", "");
+        if (hubUrl.endsWith("/wd/hub")) {
+            hubUrl = hubUrl.substring(0, hubUrl.length() - "/wd/hub".length());
+        }
+        return URI.create(hubUrl + "/status");
+    }
+}
\ No newline at end of file
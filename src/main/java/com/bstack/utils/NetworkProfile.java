@@ -0,0 +1,347 @@
+package com.bstack.utils;
+
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.TreeMap;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Network Profile utility class implementing the lean network profile for Chromium browsers.
+ * With network.lean.enabled, every test session blocks the URL patterns of
+ * network.lean.blocked.urls (images, fonts, analytics) through the DevTools protocol
+ * (Network.setBlockedURLs); tests marked @FullNetwork load everything. Blocked requests are
+ * counted per test. The bytes they would have cost come from the size observed when the same
+ * URL was loaded in full, or else, for images, fonts and stylesheets outside analytics hosts,
+ * from the Content-Length of a HEAD request sent in the background when the URL is first
+ * blocked. Lookups still pending when a test ends are added to the run summary instead of
+ * delaying the test teardown.
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class NetworkProfile {
+    
+    private static final Logger logger = LogManager.getLogger(NetworkProfile.class);
+    private static final Map<WebDriver, NetworkMonitor> monitors = new ConcurrentHashMap<>();
+    // Bytes per URL, from loads that were not blocked or from a Content-Length lookup (-1 if unknown)
+    private static final Map<String, CompletableFuture<Long>> observedSizes = new ConcurrentHashMap<>();
+    private static final int MAX_OBSERVED_URLS = 10_000;
+    private static final long SIZE_LOOKUP_TIMEOUT_MILLIS = 5000;
+    // Static resource types whose size may be looked up, never analytics or ad hosts
+    private static final List<String> SIZE_LOOKUP_TYPES = Arrays.asList("Image", "Font", "Stylesheet");
+    private static final List<String> ANALYTICS_HOSTS = Arrays.asList(
+            "google-analytics.com", "googletagmanager.com", "doubleclick.net", "googlesyndication.com");
+    private static final HttpClient httpClient = HttpClient.newBuilder()
+            .connectTimeout(Duration.ofSeconds(5))
+            .followRedirects(HttpClient.Redirect.NORMAL)
+            .build();
+    private static final NetworkMonitor UNSUPPORTED = new NetworkMonitor(null);
+    
+    private static final AtomicInteger totalTests = new AtomicInteger();
+    private static final AtomicInteger totalBlockedRequests = new AtomicInteger();
+    private static final AtomicLong totalSavedBytes = new AtomicLong();
+    private static final AtomicInteger totalUnknownSizes = new AtomicInteger();
+    // Size lookups that had not answered when their test ended, resolved by reportSummary
+    private static final Queue<CompletableFuture<Long>> pendingSizes = new ConcurrentLinkedQueue<>();
+    
+    static {
+        DriverFactory.addQuitListener(driver -> monitors.remove(driver));
+    }
+    
+    /**
+     * Apply the network profile of the next test to a browser session
+     * @param driver WebDriver instance the test will use
+     * @param fullNetwork true if the test opted out of the lean profile
+     */
+    public static void apply(WebDriver driver, boolean fullNetwork) {
+        if (!ConfigReader.isLeanNetworkEnabled()) {
+            return;
+        }
+        
+        NetworkMonitor monitor = monitors.computeIfAbsent(driver, NetworkProfile::attach);
+        if (monitor == UNSUPPORTED) {
+            return;
+        }
+        
+        monitor.reset();
+        List<String> patterns = fullNetwork ? Collections.emptyList() : ConfigReader.getLeanNetworkBlockedUrls();
+        try {
+            monitor.devTools.send(new Command<Void>("Network.setBlockedURLs",
+                    Collections.singletonMap("urls", patterns)));
+            logger.debug("Network profile: {} ({} blocked URL patterns)", fullNetwork ? "full" : "lean", patterns.size());
+        } catch (RuntimeException e) {
+            logger.warn("Failed to apply network profile, loading all resources", e);
+        }
+    }
+    
+    /**
+     * Log and report the requests and bytes the lean profile saved during the current test
+     * @param driver WebDriver instance the test used
+     */
+    public static void reportTest(WebDriver driver) {
+        NetworkMonitor monitor = driver != null ? monitors.get(driver) : null;
+        if (monitor == null || monitor == UNSUPPORTED) {
+            return;
+        }
+        
+        int blocked = monitor.blockedRequests.get();
+        long savedBytes = 0;
+        int unknownSizes = 0;
+        int pending = 0;
+        for (CompletableFuture<Long> size : monitor.blockedSizes) {
+            if (!size.isDone()) {
+                pendingSizes.add(size);
+                pending++;
+                continue;
+            }
+            long bytes = size.getNow(-1L);
+            if (bytes >= 0) {
+                savedBytes += bytes;
+            } else {
+                unknownSizes++;
+            }
+        }
+        totalTests.incrementAndGet();
+        totalBlockedRequests.addAndGet(blocked);
+        totalSavedBytes.addAndGet(savedBytes);
+        totalUnknownSizes.addAndGet(unknownSizes);
+        if (blocked == 0) {
+            return;
+        }
+        
+        String summary = String.format("Lean network: blocked %d requests %s, saved ~%s (%d sizes unknown, %d pending)",
+                blocked, new TreeMap<>(monitor.blockedByType), formatBytes(savedBytes), unknownSizes, pending);
+        logger.info(summary);
+        ExtentReportManager.logInfo(ExtentReportManager.getTest(), summary);
+    }
+    
+    /**
+     * Add the savings of the whole run to the report system information
+     */
+    public static void reportSummary() {
+        if (totalTests.get() == 0) {
+            return;
+        }
+        long deadline = System.currentTimeMillis() + SIZE_LOOKUP_TIMEOUT_MILLIS;
+        CompletableFuture<Long> size;
+        while ((size = pendingSizes.poll()) != null) {
+            long bytes = awaitSize(size, deadline);
+            if (bytes >= 0) {
+                totalSavedBytes.addAndGet(bytes);
+            } else {
+                totalUnknownSizes.incrementAndGet();
+            }
+        }
+        String summary = String.format("%d requests, ~%s saved in %d tests (%d sizes unknown)",
+                totalBlockedRequests.get(), formatBytes(totalSavedBytes.get()), totalTests.get(),
+                totalUnknownSizes.get());
+        logger.info("Lean network profile blocked {}", summary);
+        ExtentReportManager.addSystemInfo("Lean Network", summary);
+    }
+    
+    /**
+     * Open a DevTools session on a browser and listen to its network events
+     * @param driver WebDriver instance
+     * @return NetworkMonitor or UNSUPPORTED for browsers without DevTools
+     */
+    private static NetworkMonitor attach(WebDriver driver) {
+        DevTools devTools = driver instanceof HasDevTools
+                ? ((HasDevTools) driver).maybeGetDevTools().orElse(null) : null;
+        if (devTools == null) {
+            logger.info("Lean network profile needs a local Chromium browser, loading all resources");
+            return UNSUPPORTED;
+        }
+        
+        try {
+            devTools.createSessionIfThereIsNotOne();
+            NetworkMonitor monitor = new NetworkMonitor(devTools);
+            devTools.addListener(event("Network.requestWillBeSent"), monitor::requestWillBeSent);
+            devTools.addListener(event("Network.loadingFinished"), monitor::loadingFinished);
+            devTools.addListener(event("Network.loadingFailed"), monitor::loadingFailed);
+            devTools.send(new Command<Void>("Network.enable", Collections.emptyMap()));
+            return monitor;
+        } catch (RuntimeException e) {
+            logger.warn("Failed to open DevTools session, loading all resources", e);
+            return UNSUPPORTED;
+        }
+    }
+    
+    /**
+     * Create a DevTools event whose parameters are read as a map
+     * @param method CDP event name
+     * @return Event
+     */
+    private static Event<Map<String, Object>> event(String method) {
+        return new Event<>(method, input -> input.read(Json.MAP_TYPE));
+    }
+    
+    /**
+     * Get the size of a URL, starting a background Content-Length lookup the first time it is
+     * needed for a static resource
+     * @param url Blocked URL
+     * @param type CDP resource type of the request
+     * @return Future of the size in bytes, -1 if unknown
+     */
+    private static CompletableFuture<Long> getSize(String url, String type) {
+        if (url == null || !url.startsWith("http")) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        CompletableFuture<Long> size = observedSizes.get(url);
+        if (size != null) {
+            return size;
+        }
+        if (!isSizeLookupAllowed(url, type)) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+        if (observedSizes.size() >= MAX_OBSERVED_URLS) {
+            return lookupContentLength(url);
+        }
+        return observedSizes.computeIfAbsent(url, NetworkProfile::lookupContentLength);
+    }
+    
+    /**
+     * Check if the test host may send a HEAD request for a blocked URL. Scripts, XHR and pings
+     * can be tracking calls, and analytics or ad URLs carry the page context in their query
+     * @param url Blocked URL
+     * @param type CDP resource type of the request
+     * @return boolean true for images, fonts and stylesheets outside analytics and ad hosts
+     */
+    private static boolean isSizeLookupAllowed(String url, String type) {
+        if (!SIZE_LOOKUP_TYPES.contains(type)) {
+            return false;
+        }
+        try {
+            String host = URI.create(url).getHost();
+            return host != null && ANALYTICS_HOSTS.stream()
+                    .noneMatch(analyticsHost -> host.equals(analyticsHost) || host.endsWith("." + analyticsHost));
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+    
+    /**
+     * Ask the server for the transfer size of a URL with a HEAD request
+     * @param url Resource URL
+     * @return Future of the Content-Length in bytes, -1 if the server does not report it
+     */
+    private static CompletableFuture<Long> lookupContentLength(String url) {
+        try {
+            HttpRequest request = HttpRequest.newBuilder(URI.create(url))
+                    .timeout(Duration.ofMillis(SIZE_LOOKUP_TIMEOUT_MILLIS))
+                    .header("Accept-Encoding", "gzip, deflate, br")
+                    .method("HEAD", HttpRequest.BodyPublishers.noBody())
+                    .build();
+            return httpClient.sendAsync(request, HttpResponse.BodyHandlers.discarding())
+                    .thenApply(response -> response.statusCode() < 400
+                            ? response.headers().firstValueAsLong("Content-Length").orElse(-1L) : -1L)
+                    .exceptionally(e -> {
+                        logger.debug("Content-Length lookup failed for {}: {}", url, e.getMessage());
+                        return -1L;
+                    });
+        } catch (IllegalArgumentException e) {
+            return CompletableFuture.completedFuture(-1L);
+        }
+    }
+    
+    /**
+     * Wait for a size lookup until the run summary deadline
+     * @param size Future size
+     * @param deadline Time in epoch milliseconds after which pending lookups count as unknown
+     * @return Size in bytes, -1 if unknown or not answered in time
+     */
+    private static long awaitSize(CompletableFuture<Long> size, long deadline) {
+        try {
+            return size.get(Math.max(0, deadline - System.currentTimeMillis()), TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return -1;
+        } catch (ExecutionException | java.util.concurrent.TimeoutException e) {
+            return -1;
+        }
+    }
+    
+    /**
+     * Format a byte count for the report
+     * @param bytes Byte count
+     * @return Human readable size
+     */
+    private static String formatBytes(long bytes) {
+        return bytes >= 1024 * 1024
+                ? String.format("%.1f MB", bytes / (1024.0 * 1024.0))
+                : String.format("%.1f KB", bytes / 1024.0);
+    }
+    
+    /**
+     * Network event counters of one browser session, reset per test
+     */
+    private static class NetworkMonitor {
+        private final DevTools devTools;
+        // requestId -> URL of requests in flight
+        private final Map<String, String> requestUrls = new ConcurrentHashMap<>();
+        private final Map<String, Integer> blockedByType = new ConcurrentHashMap<>();
+        private final AtomicInteger blockedRequests = new AtomicInteger();
+        private final Queue<CompletableFuture<Long>> blockedSizes = new ConcurrentLinkedQueue<>();
+        
+        NetworkMonitor(DevTools devTools) {
+            this.devTools = devTools;
+        }
+        
+        void reset() {
+            requestUrls.clear();
+            blockedByType.clear();
+            blockedRequests.set(0);
+            blockedSizes.clear();
+        }
+        
+        @SuppressWarnings("unchecked")
+        void requestWillBeSent(Map<String, Object> params) {
+            Object request = params.get("request");
+            if (request instanceof Map) {
+                requestUrls.put((String) params.get("requestId"), String.valueOf(((Map<String, Object>) request).get("url")));
+            }
+        }
+        
+        void loadingFinished(Map<String, Object> params) {
+            String url = requestUrls.remove((String) params.get("requestId"));
+            Object length = params.get("encodedDataLength");
+            if (url != null && length instanceof Number
+                    && (observedSizes.size() < MAX_OBSERVED_URLS || observedSizes.containsKey(url))) {
+                observedSizes.put(url, CompletableFuture.completedFuture(((Number) length).longValue()));
+            }
+        }
+        
+        void loadingFailed(Map<String, Object> params) {
+            String url = requestUrls.remove((String) params.get("requestId"));
+            if (params.get("blockedReason") == null) {
+                return;
+            }
+            
+            String type = String.valueOf(params.getOrDefault("type", "Other"));
+            blockedRequests.incrementAndGet();
+            blockedByType.merge(type, 1, Integer::sum);
+            blockedSizes.add(getSize(url, type));
+        }
+    }
+}
\ No newline at end of file
@@ -0,0 +1,39 @@
+package com.bstack.utils;
+
+import org.testng.IAlterSuiteListener;
+import org.testng.xml.XmlSuite;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.util.List;
+
+/**
+ * TestNG listener that applies the parallel execution settings from config.properties
+ * (parallel.execution, thread.count) to every suite before it runs
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class ParallelExecutionListener implements IAlterSuiteListener {
+    
+    private static final Logger logger = LogManager.getLogger(ParallelExecutionListener.class);
+    
+    /**
+     * Switch suites to parallel methods mode when enabled in configuration
+     * @param suites Suites about to be executed
+     */
+    @Override
+    public void alter(List<XmlSuite> suites) {
+        if (!ConfigReader.isParallelExecution()) {
+            logger.info("Parallel execution disabled, running tests sequentially");
+            return;
+        }
+        
+        int threadCount = ConfigReader.getThreadCount();
+        for (XmlSuite suite : suites) {
+            suite.setParallel(XmlSuite.ParallelMode.METHODS);
+            suite.setThreadCount(threadCount);
+            suite.setDataProviderThreadCount(threadCount);
+            logger.info("Suite '{}' configured for parallel methods with {} threads", suite.getName(), threadCount);
+        }
+    }
+}
\ No newline at end of file
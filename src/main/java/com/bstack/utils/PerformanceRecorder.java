@@ -0,0 +1,296 @@
+package com.bstack.utils;
+
+import com.aventstack.extentreports.ExtentTest;
+import com.aventstack.extentreports.markuputils.MarkupHelper;
+import org.openqa.selenium.JavascriptExecutor;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.devtools.Command;
+import org.openqa.selenium.devtools.DevTools;
+import org.openqa.selenium.devtools.Event;
+import org.openqa.selenium.devtools.HasDevTools;
+import org.openqa.selenium.json.Json;
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import java.io.BufferedWriter;
+import java.io.File;
+import java.io.FileWriter;
+import java.io.IOException;
+import java.text.SimpleDateFormat;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Date;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * Performance Recorder utility class that samples app timing after every navigation and
+ * page-object action when performance.metrics.enabled is set: Navigation Timing of new
+ * documents, resources and transferred bytes and long tasks since the previous sample, read
+ * from the W3C Performance API. Local Chromium sessions add DevTools metrics (Performance
+ * domain script/task/layout time and heap, Network domain bytes including cross-origin
+ * responses) and observe long tasks from document start.
+ * Samples are attached to the ExtentTest node as a table and appended to one JSON Lines
+ * file per run.
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class PerformanceRecorder {
+    
+    private static final Logger logger = LogManager.getLogger(PerformanceRecorder.class);
+    private static final String METRICS_FOLDER = "test-output/performance/";
+    private static final Map<WebDriver, DriverState> driverStates = new ConcurrentHashMap<>();
+    private static final ThreadLocal<List<Map<String, Object>>> testSamples = ThreadLocal.withInitial(ArrayList::new);
+    private static final Json json = new Json();
+    private static BufferedWriter writer;
+    
+    private static final String LONG_TASK_OBSERVER =
+            "if (!window.__perfLongTasks) {" +
+            "  window.__perfLongTasks = [];" +
+            "  try {" +
+            "    new PerformanceObserver(function(list) {" +
+            "      list.getEntries().forEach(function(e) { window.__perfLongTasks.push([e.startTime, e.duration]); });" +
+            "    }).observe({type: 'longtask', buffered: true});" +
+            "  } catch (e) {}" +
+            "}";
+    
+    private static final String SAMPLE_SCRIPT =
+            LONG_TASK_OBSERVER +
+            "var newDocument = performance.timeOrigin !== arguments[0];" +
+            "var since = newDocument ? 0 : arguments[1], withNavigation = newDocument || arguments[2];" +
+            "var sum = function(items, value) { return items.reduce(function(s, i) { return s + value(i); }, 0); };" +
+            "var resources = performance.getEntriesByType('resource').filter(function(r) { return r.responseEnd > since; });" +
+            "var tasks = window.__perfLongTasks.filter(function(t) { return t[0] + t[1] > since; });" +
+            "var nav = performance.getEntriesByType('navigation')[0];" +
+            "return {" +
+            "  timeOrigin: performance.timeOrigin, now: performance.now()," +
+            "  navigation: withNavigation && nav ? { type: nav.type, ttfb: nav.responseStart," +
+            "    domContentLoaded: nav.domContentLoadedEventEnd, load: nav.loadEventEnd," +
+            "    transferBytes: nav.transferSize } : null," +
+            "  resources: resources.length," +
+            "  transferBytes: sum(resources, function(r) { return r.transferSize || 0; })," +
+            "  longTasks: tasks.length," +
+            "  longTaskMs: sum(tasks, function(t) { return t[1]; })" +
+            "};";
+    
+    static {
+        DriverFactory.addQuitListener(driver -> driverStates.remove(driver));
+    }
+    
+    /**
+     * Record the metrics of a navigation or page-object action that just completed
+     * @param driver WebDriver instance
+     * @param step Supplier of the step description, e.g. "click HomePage.cartIcon", only called when enabled
+     * @param startNanos System.nanoTime() when the step started
+     */
+    @SuppressWarnings("unchecked")
+    public static void record(WebDriver driver, Supplier<String> step, long startNanos) {
+        if (!ConfigReader.isPerformanceMetricsEnabled()) {
+            return;
+        }
+        
+        double durationMs = (System.nanoTime() - startNanos) / 1_000_000.0;
+        DriverState state = driverStates.computeIfAbsent(driver, PerformanceRecorder::attach);
+        try {
+            Map<String, Object> page;
+            synchronized (state) {
+                // A new document is sampled from its start and reports its Navigation Timing until loaded
+                page = (Map<String, Object>) ((JavascriptExecutor) driver)
+                        .executeScript(SAMPLE_SCRIPT, state.timeOrigin, state.lastNow, state.navigationPending);
+                state.timeOrigin = ((Number) page.get("timeOrigin")).doubleValue();
+                state.lastNow = ((Number) page.get("now")).doubleValue();
+                Map<String, Object> navigation = (Map<String, Object>) page.get("navigation");
+                state.navigationPending = navigation != null && ((Number) navigation.get("load")).doubleValue() <= 0;
+            }
+            
+            Map<String, Object> sample = new LinkedHashMap<>();
+            sample.put("timestamp", System.currentTimeMillis());
+            sample.put("test", ThreadContext.get("testName"));
+            sample.put("step", step.get());
+            sample.put("url", driver.getCurrentUrl());
+            sample.put("durationMs", round(durationMs));
+            sample.put("source", state.devTools != null ? "cdp" : "w3c");
+            page.remove("timeOrigin");
+            page.remove("now");
+            if (page.get("navigation") == null) {
+                page.remove("navigation");
+            }
+            sample.putAll(page);
+            if (state.devTools != null) {
+                sample.put("cdp", state.sampleDevTools());
+            }
+            testSamples.get().add(sample);
+            write(sample);
+            logger.debug("Performance sample: {}", sample);
+        } catch (RuntimeException e) {
+            logger.debug("Failed to sample performance metrics for step: {}", step.get(), e);
+        }
+    }
+    
+    /**
+     * Attach the samples of the current test to its ExtentTest node and clear them
+     */
+    public static void reportTest() {
+        List<Map<String, Object>> samples = testSamples.get();
+        testSamples.remove();
+        ExtentTest test = ExtentReportManager.getTest();
+        if (samples.isEmpty() || test == null) {
+            return;
+        }
+        
+        String[][] table = new String[samples.size() + 1][];
+        table[0] = new String[] {"Step", "Duration ms", "Load ms", "Resources", "Transferred KB", "Long tasks", "Long task ms"};
+        for (int i = 0; i < samples.size(); i++) {
+            Map<String, Object> sample = samples.get(i);
+            Object navigation = sample.get("navigation");
+            table[i + 1] = new String[] {
+                    String.valueOf(sample.get("step")),
+                    String.valueOf(sample.get("durationMs")),
+                    navigation instanceof Map ? String.valueOf(round(((Number) ((Map<?, ?>) navigation).get("load")).doubleValue())) : "",
+                    String.valueOf(sample.get("resources")),
+                    String.valueOf(round(getTransferBytes(sample) / 1024.0)),
+                    String.valueOf(sample.get("longTasks")),
+                    String.valueOf(round(((Number) sample.get("longTaskMs")).doubleValue()))};
+        }
+        test.info(MarkupHelper.createTable(table));
+    }
+    
+    /**
+     * Flush and close the metrics file of the run
+     */
+    public static synchronized void close() {
+        if (writer == null) {
+            return;
+        }
+        try {
+            writer.close();
+        } catch (IOException e) {
+            logger.warn("Failed to close performance metrics file", e);
+        }
+        writer = null;
+    }
+    
+    /**
+     * Append a sample to the metrics file of the run, creating it on first use
+     * @param sample Sample to write as one JSON line
+     */
+    private static synchronized void write(Map<String, Object> sample) {
+        try {
+            if (writer == null) {
+                new File(METRICS_FOLDER).mkdirs();
+                String timestamp = new SimpleDateFormat("yyyy-MM-dd_HH-mm-ss").format(new Date());
+                String path = METRICS_FOLDER + "metrics_" + timestamp + ".jsonl";
+                writer = new BufferedWriter(new FileWriter(path));
+                logger.info("Writing performance metrics to: {}", path);
+            }
+            writer.write(json.toJson(sample).replace("\n", "").replace("\r", ""));
+            writer.newLine();
+        } catch (IOException e) {
+            logger.warn("Failed to write performance metrics", e);
+        }
+    }
+    
+    /**
+     * Get bytes transferred during a sample, preferring the DevTools count
+     * @param sample Performance sample
+     * @return Transferred bytes
+     */
+    private static double getTransferBytes(Map<String, Object> sample) {
+        Object cdp = sample.get("cdp");
+        if (cdp instanceof Map && ((Map<?, ?>) cdp).get("encodedBytes") instanceof Number) {
+            return ((Number) ((Map<?, ?>) cdp).get("encodedBytes")).doubleValue();
+        }
+        return ((Number) sample.get("transferBytes")).doubleValue();
+    }
+    
+    /**
+     * Open a DevTools session when the browser supports one
+     * @param driver WebDriver instance
+     * @return DriverState with or without DevTools
+     */
+    private static DriverState attach(WebDriver driver) {
+        DevTools devTools = driver instanceof HasDevTools
+                ? ((HasDevTools) driver).maybeGetDevTools().orElse(null) : null;
+        if (devTools == null) {
+            logger.debug("No DevTools session, recording W3C performance metrics only");
+            return new DriverState(null);
+        }
+        
+        try {
+            devTools.createSessionIfThereIsNotOne();
+            DriverState state = new DriverState(devTools);
+            devTools.addListener(new Event<Map<String, Object>>("Network.loadingFinished", input -> input.read(Json.MAP_TYPE)),
+                    params -> {
+                        state.requests.incrementAndGet();
+                        state.encodedBytes.addAndGet(((Number) params.getOrDefault("encodedDataLength", 0)).longValue());
+                    });
+            devTools.send(new Command<Void>("Network.enable", Collections.emptyMap()));
+            devTools.send(new Command<Void>("Performance.enable", Collections.emptyMap()));
+            devTools.send(new Command<Map<String, Object>>("Page.addScriptToEvaluateOnNewDocument",
+                    Collections.singletonMap("source", LONG_TASK_OBSERVER), Json.MAP_TYPE));
+            return state;
+        } catch (RuntimeException e) {
+            logger.debug("Failed to open DevTools session, recording W3C performance metrics only", e);
+            return new DriverState(null);
+        }
+    }
+    
+    private static double round(double value) {
+        return Math.round(value * 10) / 10.0;
+    }
+    
+    /**
+     * Sampling position and DevTools counters of one browser session
+     */
+    private static class DriverState {
+        private static final String[] DURATION_METRICS = {"ScriptDuration", "TaskDuration", "LayoutDuration", "RecalcStyleDuration"};
+        
+        private final DevTools devTools;
+        private final AtomicLong requests = new AtomicLong();
+        private final AtomicLong encodedBytes = new AtomicLong();
+        private final Map<String, Double> previousMetrics = new HashMap<>();
+        private double timeOrigin;
+        private double lastNow;
+        private boolean navigationPending;
+        
+        DriverState(DevTools devTools) {
+            this.devTools = devTools;
+        }
+        
+        /**
+         * Read DevTools counters since the previous sample
+         * @return Map of network and Performance domain metrics
+         */
+        @SuppressWarnings("unchecked")
+        synchronized Map<String, Object> sampleDevTools() {
+            Map<String, Object> metrics = new LinkedHashMap<>();
+            metrics.put("requests", requests.getAndSet(0));
+            metrics.put("encodedBytes", encodedBytes.getAndSet(0));
+            
+            Map<String, Object> result = devTools.send(new Command<Map<String, Object>>(
+                    "Performance.getMetrics", Collections.emptyMap(), Json.MAP_TYPE));
+            Map<String, Double> current = new HashMap<>();
+            for (Object metric : (List<Object>) result.getOrDefault("metrics", Collections.emptyList())) {
+                Map<String, Object> entry = (Map<String, Object>) metric;
+                current.put(String.valueOf(entry.get("name")), ((Number) entry.get("value")).doubleValue());
+            }
+            for (String name : DURATION_METRICS) {
+                double delta = current.getOrDefault(name, 0.0) - previousMetrics.getOrDefault(name, 0.0);
+                // Counters restart with each document, a negative delta means a new document
+                metrics.put(Character.toLowerCase(name.charAt(0)) + name.substring(1) + "Ms",
+                        round((delta >= 0 ? delta : current.getOrDefault(name, 0.0)) * 1000));
+            }
+            metrics.put("jsHeapUsedBytes", current.getOrDefault("JSHeapUsedSize", 0.0).longValue());
+            metrics.put("nodes", current.getOrDefault("Nodes", 0.0).longValue());
+            previousMetrics.clear();
+            previousMetrics.putAll(current);
+            return metrics;
+        }
+    }
+}
\ No newline at end of file
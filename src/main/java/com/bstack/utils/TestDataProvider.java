@@ -1,9 +1,14 @@
 package com.bstack.utils;
 
 import org.testng.annotations.DataProvider;
+import java.util.Arrays;
+import java.util.Iterator;
 
 /**
- * Test Data Provider class for supplying test data to test methods
+ * Test Data Provider class for supplying test data to test methods.
+ * Providers that stream rows from an Iterator are not parallel: TestNG reads a parallel
+ * provider's whole iterator before it runs the first row, while a sequential one is read
+ * one row per invocation.
  * 
  * @author Test Automation Engineer
  * @version 1.0
@@ -11,16 +16,12 @@ import org.testng.annotations.DataProvider;
 public class TestDataProvider {
     
     /**
-     * Data provider for login test scenarios
-     * @return Object[][] array containing username data
+     * Data provider for login test scenarios, streamed from testdata/login-users.csv
+     * @return Iterator of username rows
      */
     @DataProvider(name = "loginData")
-    public static Object[][] getLoginData() {
-        return new Object[][] {
-            {"demouser"},
-            {"fav_user"},
-            {"existing_orders_user"}
-        };
+    public static Iterator<Object[]> getLoginData() {
+        return DataFileProvider.stream("login-users.csv", "username");
     }
     
     /**
@@ -37,30 +38,26 @@ public class TestDataProvider {
     }
     
     /**
-     * Data provider for checkout form data
-     * @return Object[][] array containing checkout form data
+     * Data provider for checkout form data, streamed from testdata/checkout.csv or generated
+     * from checkout.generated.seed when checkout.generated.rows is set
+     * @return Iterator of first name, last name, address, state and postal code rows
      */
     @DataProvider(name = "checkoutData")
-    public static Object[][] getCheckoutData() {
-        return new Object[][] {
-            {"John", "Doe", "123 Main St", "California", "90210"},
-            {"Jane", "Smith", "456 Oak Ave", "New York", "10001"},
-            {"Mike", "Johnson", "789 Pine Rd", "Texas", "75001"}
-        };
+    public static Iterator<Object[]> getCheckoutData() {
+        long generatedRows = ConfigReader.getCheckoutGeneratedRows();
+        if (generatedRows > 0) {
+            return CheckoutDataGenerator.checkoutRows(generatedRows);
+        }
+        return DataFileProvider.stream("checkout.csv", "firstName", "lastName", "address", "state", "postalCode");
     }
     
     /**
-     * Data provider for product filter scenarios
-     * @return Object[][] array containing filter names
+     * Data provider for product filter scenarios, streamed from testdata/product-filters.jsonl
+     * @return Iterator of brand rows
      */
     @DataProvider(name = "productFilters")
-    public static Object[][] getProductFilters() {
-        return new Object[][] {
-            {"Apple"},
-            {"Samsung"},
-            {"OnePlus"},
-            {"Google"}
-        };
+    public static Iterator<Object[]> getProductFilters() {
+        return DataFileProvider.stream("product-filters.jsonl", "brand");
     }
     
     /**
@@ -104,12 +101,17 @@ public class TestDataProvider {
     }
     
     /**
-     * Data provider for negative test scenarios
-     * @return Object[][] array containing invalid data
+     * Data provider for negative test scenarios, generated with one invalid field per row
+     * when checkout.generated.negative.rows is set
+     * @return Iterator of rows containing invalid data
      */
     @DataProvider(name = "negativeTestData")
-    public static Object[][] getNegativeTestData() {
-        return new Object[][] {
+    public static Iterator<Object[]> getNegativeTestData() {
+        long generatedRows = ConfigReader.getCheckoutGeneratedNegativeRows();
+        if (generatedRows > 0) {
+            return CheckoutDataGenerator.negativeRows(generatedRows);
+        }
+        return Arrays.asList(new Object[][] {
             {"", "", "", "", ""},  // All empty fields
             {"A", "B", "C", "D", "1"},  // Too short data
             {null, null, null, null, null},  // Null values
@@ -118,7 +120,7 @@ public class TestDataProvider {
              "Very Long Address That Exceeds Normal Character Limits For Address Fields", 
              "Very Long State Name", 
              "Very Long Postal Code"}  // Too long data
-        };
+        }).iterator();
     }
     
     /**
@@ -0,0 +1,201 @@
+package com.bstack.utils;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import java.io.File;
+import java.io.FileInputStream;
+import java.io.FileOutputStream;
+import java.io.IOException;
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Properties;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Wait History utility class that records how long each wait actually took, keyed by
+ * page class and element, and derives per-key timeouts and polling intervals from it.
+ * Waits that time out are recorded as censored samples (the real duration is at least the
+ * timeout), so a tuned timeout that turned out too short grows again instead of hiding the
+ * slower runs. The history is persisted between runs so later runs fail fast on real failures
+ * while slow but healthy elements keep enough head room.
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class WaitHistory {
+    
+    private static final Logger logger = LogManager.getLogger(WaitHistory.class);
+    private static final Map<String, Samples> history = new ConcurrentHashMap<>();
+    private static final int MAX_SAMPLES = 500;
+    private static final long MIN_POLLING_MILLIS = 50;
+    private static final long MAX_POLLING_MILLIS = 500;
+    
+    static {
+        load();
+    }
+    
+    /**
+     * Record a successful wait
+     * @param key Wait key (PageClass.element)
+     * @param millis Time the wait took in milliseconds
+     */
+    public static void record(String key, long millis) {
+        history.computeIfAbsent(key, k -> new Samples()).add(millis, false);
+    }
+    
+    /**
+     * Record a wait that timed out. The sample is censored: the condition needed at least
+     * this long, so the tuned timeout is raised above it
+     * @param key Wait key (PageClass.element)
+     * @param millis Time the wait ran before it gave up in milliseconds
+     */
+    public static void recordTimeout(String key, long millis) {
+        history.computeIfAbsent(key, k -> new Samples()).add(millis, true);
+        logger.debug("Recorded timed out wait for {} after {} ms", key, millis);
+    }
+    
+    /**
+     * Get tuned timeout for a wait: high percentile of history times a safety factor
+     * @param key Wait key
+     * @param fallback Timeout used when tuning is disabled or history is too short
+     * @return Timeout duration
+     */
+    public static Duration getTimeout(String key, Duration fallback) {
+        Samples samples = history.get(key);
+        if (!ConfigReader.isWaitTuningEnabled() || samples == null
+                || samples.size() < ConfigReader.getWaitTuningMinSamples()) {
+            return fallback;
+        }
+        
+        // A censored sample is a lower bound, so the timeout always backs off above the longest one
+        long basis = Math.max(samples.percentile(ConfigReader.getWaitTuningPercentile()), samples.maxCensored());
+        long tuned = (long) (basis * ConfigReader.getWaitTuningSafetyFactor());
+        long timeout = Math.max(ConfigReader.getWaitTuningMinTimeout(), Math.min(tuned, fallback.toMillis()));
+        return Duration.ofMillis(timeout);
+    }
+    
+    /**
+     * Get tuned polling interval for a wait: a fraction of the median wait time
+     * @param key Wait key
+     * @param fallback Polling interval used when tuning is disabled or history is too short
+     * @return Polling interval duration
+     */
+    public static Duration getPollingInterval(String key, Duration fallback) {
+        Samples samples = history.get(key);
+        if (!ConfigReader.isWaitTuningEnabled() || samples == null
+                || samples.size() < ConfigReader.getWaitTuningMinSamples()) {
+            return fallback;
+        }
+        
+        long polling = samples.percentile(50.0) / 5;
+        return Duration.ofMillis(Math.max(MIN_POLLING_MILLIS, Math.min(MAX_POLLING_MILLIS, polling)));
+    }
+    
+    /**
+     * Persist the recorded history to the history file
+     */
+    public static void save() {
+        File file = new File(ConfigReader.getWaitHistoryFile());
+        File parent = file.getParentFile();
+        if (parent != null && !parent.exists()) {
+            parent.mkdirs();
+        }
+        
+        Properties properties = new Properties();
+        new TreeMap<>(history).forEach((key, samples) -> properties.setProperty(key, samples.serialize()));
+        try (FileOutputStream fos = new FileOutputStream(file)) {
+            properties.store(fos, "Wait durations in milliseconds per PageClass.element, + marks a timed out wait");
+            logger.info("Saved wait history for {} waits to: {}", history.size(), file.getPath());
+        } catch (IOException e) {
+            logger.warn("Failed to save wait history to: {}", file.getPath(), e);
+        }
+    }
+    
+    /**
+     * Load history recorded by previous runs
+     */
+    private static void load() {
+        File file = new File(ConfigReader.getWaitHistoryFile());
+        if (!file.isFile()) {
+            logger.debug("No wait history found at: {}", file.getPath());
+            return;
+        }
+        
+        Properties properties = new Properties();
+        try (FileInputStream fis = new FileInputStream(file)) {
+            properties.load(fis);
+            properties.forEach((key, value) -> history.put((String) key, Samples.parse((String) value)));
+            logger.info("Loaded wait history for {} waits from: {}", history.size(), file.getPath());
+        } catch (IOException | NumberFormatException e) {
+            logger.warn("Failed to load wait history from: {}", file.getPath(), e);
+        }
+    }
+    
+    /**
+     * Bounded ring buffer of the most recent wait durations for one key
+     */
+    private static class Samples {
+        private final long[] values = new long[MAX_SAMPLES];
+        private final boolean[] censored = new boolean[MAX_SAMPLES];
+        private int count;
+        private int next;
+        
+        synchronized void add(long millis, boolean timedOut) {
+            values[next] = millis;
+            censored[next] = timedOut;
+            next = (next + 1) % MAX_SAMPLES;
+            count = Math.min(count + 1, MAX_SAMPLES);
+        }
+        
+        synchronized long maxCensored() {
+            long max = 0;
+            for (int i = 0; i < count; i++) {
+                if (censored[i]) {
+                    max = Math.max(max, values[i]);
+                }
+            }
+            return max;
+        }
+        
+        synchronized int size() {
+            return count;
+        }
+        
+        synchronized long percentile(double percentile) {
+            long[] sorted = Arrays.copyOf(values, count);
+            Arrays.sort(sorted);
+            int index = (int) Math.ceil(percentile / 100.0 * count) - 1;
+            return sorted[Math.max(0, Math.min(count - 1, index))];
+        }
+        
+        synchronized String serialize() {
+            StringBuilder builder = new StringBuilder();
+            for (int i = 0; i < count; i++) {
+                if (i > 0) {
+                    builder.append(',');
+                }
+                int index = (next - count + i + MAX_SAMPLES) % MAX_SAMPLES;
+                builder.append(values[index]);
+                if (censored[index]) {
+                    builder.append('+');
+                }
+            }
+            return builder.toString();
+        }
+        
+        static Samples parse(String value) {
+            Samples samples = new Samples();
+            for (String sample : value.split(",")) {
+                String trimmed = sample.trim();
+                if (trimmed.endsWith("+")) {
+                    samples.add(Long.parseLong(trimmed.substring(0, trimmed.length() - 1)), true);
+                } else if (!trimmed.isEmpty()) {
+                    samples.add(Long.parseLong(trimmed), false);
+                }
+            }
+            return samples;
+        }
+    }
+}
\ No newline at end of file
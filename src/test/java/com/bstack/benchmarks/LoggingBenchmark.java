@@ -0,0 +1,146 @@
+package com.bstack.benchmarks;
+
+import org.apache.logging.log4j.LogManager;
+import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import java.lang.management.ManagementFactory;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.BiConsumer;
+
+/**
+ * Logging Benchmark measuring the logging overhead of a page action under parallel load,
+ * comparing string concatenation with parameterized messages for disabled (debug) and
+ * enabled (info) levels. Uses the project log4j2.xml, so enabled events go through the
+ * async appender and the per-test routing; console output is switched off for the run.
+ * 
+ * Run after test-compile:
+ * mvn exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.bstack.benchmarks.LoggingBenchmark
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class LoggingBenchmark {
+    
+    private static final int DEFAULT_ACTIONS_PER_THREAD = 50_000;
+    
+    /**
+     * Run the benchmark
+     * @param args Optional thread count and actions per thread
+     */
+    public static void main(String[] args) throws Exception {
+        // Must be set before log4j reads its configuration
+        System.setProperty("console.log.level", "OFF");
+        System.setProperty("log.level", "INFO");
+        System.setProperty("log.dir", "target/benchmark-logs");
+        
+        int threads = args.length > 0 ? Integer.parseInt(args[0]) : Runtime.getRuntime().availableProcessors();
+        int actions = args.length > 1 ? Integer.parseInt(args[1]) : DEFAULT_ACTIONS_PER_THREAD;
+        Logger logger = LogManager.getLogger("com.bstack.pages.BasePage");
+        ElementStandIn element = new ElementStandIn("By.id: login-btn");
+        
+        System.out.printf("%d threads x %d actions%n", threads, actions);
+        System.out.printf("%-40s %15s %15s%n", "Variant", "ns/action", "bytes/action");
+        ExecutorService executor = Executors.newFixedThreadPool(threads);
+        try {
+            run(executor, threads, actions, "concatenation, debug disabled",
+                    (i, status) -> logger.debug("Element display status: " + status + " for element: " + element));
+            run(executor, threads, actions, "parameterized, debug disabled",
+                    (i, status) -> logger.debug("Element display status: {} for element: {}", status, element));
+            run(executor, threads, actions, "concatenation, info through async",
+                    (i, status) -> logger.info("Clicked on element: " + element));
+            run(executor, threads, actions, "parameterized, info through async",
+                    (i, status) -> logger.info("Clicked on element: {}", element));
+        } finally {
+            executor.shutdown();
+            LogManager.shutdown();
+        }
+    }
+    
+    /**
+     * Warm up and measure one variant on all threads at once
+     * @param executor Executor with one thread per worker
+     * @param threads Number of workers
+     * @param actions Actions per worker
+     * @param name Variant name
+     * @param action Logging call of one action, receives the action number and a display status
+     */
+    private static void run(ExecutorService executor, int threads, int actions, String name,
+                            BiConsumer<Integer, Boolean> action) throws Exception {
+        runWorkers(executor, threads, actions / 5, action);
+        long start = System.nanoTime();
+        long allocated = runWorkers(executor, threads, actions, action);
+        long elapsed = System.nanoTime() - start;
+        
+        System.out.printf("%-40s %15.1f %15s%n", name, (double) elapsed / actions,
+                allocated < 0 ? "n/a" : String.valueOf(allocated / ((long) threads * actions)));
+    }
+    
+    /**
+     * Run the action on every worker, started together
+     * @param executor Executor with one thread per worker
+     * @param threads Number of workers
+     * @param actions Actions per worker
+     * @param action Logging call of one action
+     * @return Bytes allocated by all workers, or -1 if the JVM does not report them
+     */
+    private static long runWorkers(ExecutorService executor, int threads, int actions,
+                                   BiConsumer<Integer, Boolean> action) throws Exception {
+        CountDownLatch startSignal = new CountDownLatch(1);
+        List<Future<Long>> workers = new ArrayList<>();
+        for (int t = 0; t < threads; t++) {
+            String testName = "LoggingBenchmark.worker" + t;
+            workers.add(executor.submit(() -> {
+                ThreadContext.put("testName", testName);
+                startSignal.await();
+                long before = getAllocatedBytes();
+                for (int i = 0; i < actions; i++) {
+                    action.accept(i, (i & 1) == 0);
+                }
+                long after = getAllocatedBytes();
+                ThreadContext.remove("testName");
+                return before < 0 ? -1 : after - before;
+            }));
+        }
+        startSignal.countDown();
+        
+        long allocated = 0;
+        for (Future<Long> worker : workers) {
+            long bytes = worker.get();
+            allocated = bytes < 0 || allocated < 0 ? -1 : allocated + bytes;
+        }
+        return allocated;
+    }
+    
+    /**
+     * Get bytes allocated by the current thread
+     * @return Allocated bytes or -1 if the JVM does not report them
+     */
+    private static long getAllocatedBytes() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+    
+    /**
+     * Stand-in for a page element proxy whose toString builds its locator description
+     */
+    private static class ElementStandIn {
+        private final String locator;
+        
+        ElementStandIn(String locator) {
+            this.locator = locator;
+        }
+        
+        @Override
+        public String toString() {
+            return "Proxy element for: Located by " + locator;
+        }
+    }
+}
\ No newline at end of file
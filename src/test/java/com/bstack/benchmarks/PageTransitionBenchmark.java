@@ -0,0 +1,117 @@
+package com.bstack.benchmarks;
+
+import com.bstack.pages.BasePage;
+import com.bstack.pages.CheckoutPage;
+import com.bstack.pages.HomePage;
+import com.bstack.pages.LoginPage;
+import com.bstack.pages.PageObjectFactory;
+import org.openqa.selenium.WebDriver;
+import org.openqa.selenium.support.PageFactory;
+import org.openqa.selenium.support.ui.WebDriverWait;
+import java.lang.management.ManagementFactory;
+import java.lang.reflect.Proxy;
+import java.time.Duration;
+import java.util.function.IntFunction;
+
+/**
+ * Page Transition Benchmark comparing per-transition PageFactory initialization with the
+ * cached page object factory. Runs without a browser: element proxies are lazy, so a stub
+ * driver is enough to measure the page object overhead of a transition.
+ * 
+ * Run after test-compile:
+ * mvn -q exec:java -Dexec.classpathScope=test -Dexec.mainClass=com.bstack.benchmarks.PageTransitionBenchmark
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class PageTransitionBenchmark {
+    
+    private static final int WARMUP_TRANSITIONS = 20_000;
+    private static final int MEASURED_TRANSITIONS = 100_000;
+    private static final Class<?>[] PAGE_CLASSES = {LoginPage.class, HomePage.class, CheckoutPage.class};
+    
+    /**
+     * Run the benchmark
+     * @param args Optional number of measured transitions
+     */
+    public static void main(String[] args) {
+        int transitions = args.length > 0 ? Integer.parseInt(args[0]) : MEASURED_TRANSITIONS;
+        WebDriver driver = (WebDriver) Proxy.newProxyInstance(PageTransitionBenchmark.class.getClassLoader(),
+                new Class<?>[] {WebDriver.class}, (proxy, method, methodArgs) -> {
+                    if ("hashCode".equals(method.getName())) {
+                        return System.identityHashCode(proxy);
+                    }
+                    if ("equals".equals(method.getName())) {
+                        return proxy == methodArgs[0];
+                    }
+                    return null;
+                });
+        BasePage[] pages = {new LoginPage(driver), new HomePage(driver), new CheckoutPage(driver)};
+        
+        System.out.printf("%-45s %15s %15s%n", "Transition", "ns/transition", "bytes/transition");
+        run("PageFactory.initElements + new WebDriverWait", transitions, i -> {
+            BasePage page = pages[i % pages.length];
+            PageFactory.initElements(driver, page);
+            return new WebDriverWait(driver, Duration.ofSeconds(10));
+        });
+        run("new Page(driver) with cached metadata", transitions, i -> newPage(i, driver));
+        run("PageObjectFactory.getPage (reused per driver)", transitions,
+                i -> PageObjectFactory.getPage(driver, PAGE_CLASSES[i % PAGE_CLASSES.length].asSubclass(BasePage.class)));
+    }
+    
+    /**
+     * Construct a page directly
+     * @param i Transition number, selects the page class
+     * @param driver Stub driver
+     * @return New page instance
+     */
+    private static BasePage newPage(int i, WebDriver driver) {
+        switch (i % PAGE_CLASSES.length) {
+            case 0:
+                return new LoginPage(driver);
+            case 1:
+                return new HomePage(driver);
+            default:
+                return new CheckoutPage(driver);
+        }
+    }
+    
+    /**
+     * Warm up and measure one transition variant
+     * @param name Variant name
+     * @param transitions Number of measured transitions
+     * @param transition Transition to run, result is kept alive until the next call
+     */
+    private static void run(String name, int transitions, IntFunction<Object> transition) {
+        Object sink = null;
+        for (int i = 0; i < WARMUP_TRANSITIONS; i++) {
+            sink = transition.apply(i);
+        }
+        
+        long allocatedBefore = getAllocatedBytes();
+        long start = System.nanoTime();
+        for (int i = 0; i < transitions; i++) {
+            sink = transition.apply(i);
+        }
+        long elapsed = System.nanoTime() - start;
+        long allocated = getAllocatedBytes() - allocatedBefore;
+        
+        System.out.printf("%-45s %15.1f %15s%n", name, (double) elapsed / transitions,
+                allocated < 0 ? "n/a" : String.valueOf(allocated / transitions));
+        if (sink == null) {
+            System.out.println("No result");
+        }
+    }
+    
+    /**
+     * Get bytes allocated by the current thread
+     * @return Allocated bytes or -1 if the JVM does not report them
+     */
+    private static long getAllocatedBytes() {
+        java.lang.management.ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+        if (threads instanceof com.sun.management.ThreadMXBean) {
+            return ((com.sun.management.ThreadMXBean) threads).getThreadAllocatedBytes(Thread.currentThread().getId());
+        }
+        return -1;
+    }
+}
\ No newline at end of file
@@ -1,20 +1,21 @@
 package com.bstack.tests;
 
 import org.testng.annotations.*;
+import org.testng.ITestResult;
 import org.openqa.selenium.WebDriver;
-import io.github.bonigarcia.wdm.WebDriverManager;
-import org.openqa.selenium.chrome.ChromeDriver;
-import org.openqa.selenium.chrome.ChromeOptions;
-import org.openqa.selenium.firefox.FirefoxDriver;
-import org.openqa.selenium.firefox.FirefoxOptions;
-import org.openqa.selenium.edge.EdgeDriver;
-import org.openqa.selenium.edge.EdgeOptions;
 import org.apache.logging.log4j.LogManager;
 import org.apache.logging.log4j.Logger;
+import org.apache.logging.log4j.ThreadContext;
+import com.bstack.utils.AdaptiveConcurrencyController;
 import com.bstack.utils.ConfigReader;
+import com.bstack.utils.DriverPool;
 import com.bstack.utils.ExtentReportManager;
+import com.bstack.utils.FullNetwork;
+import com.bstack.utils.NetworkProfile;
+import com.bstack.utils.PerformanceRecorder;
+import com.bstack.utils.WaitHistory;
 import com.aventstack.extentreports.ExtentTest;
-import java.time.Duration;
+import java.lang.reflect.Method;
 
 /**
  * Base Test class that contains common setup and teardown methods
@@ -25,15 +26,9 @@ import java.time.Duration;
  */
 public abstract class BaseTest {
     
-    protected WebDriver driver;
+    // Per-thread driver so parallel test methods never share a browser
+    private static final ThreadLocal<WebDriver> driverHolder = new ThreadLocal<>();
     protected static final Logger logger = LogManager.getLogger(BaseTest.class);
-    protected ExtentTest test;
-    
-    // Test configuration
-    private String browserName;
-    private boolean headless;
-    private int implicitWait;
-    private int pageLoadTimeout;
     
     /**
      * Setup method that runs before each test suite
@@ -41,31 +36,45 @@ public abstract class BaseTest {
     @BeforeSuite
     public void suiteSetup() {
         logger.info("=== Test Suite Started ===");
+        DriverPool.prewarm(ConfigReader.getDriverPrewarmCount());
         ExtentReportManager.initializeReport();
         loadConfiguration();
     }
     
     /**
      * Setup method that runs before each test method
+     * @param method Test method about to run, used to route its log events to a per-test file
      */
     @BeforeMethod
-    public void setUp() {
+    public void setUp(Method method) {
+        ThreadContext.put("testName", getClass().getSimpleName() + "." + method.getName());
         logger.info("Setting up test environment");
-        initializeDriver();
-        configureDriver();
+        AdaptiveConcurrencyController.acquire();
+        driverHolder.set(DriverPool.acquire());
+        NetworkProfile.apply(getDriver(), method.isAnnotationPresent(FullNetwork.class)
+                || getClass().isAnnotationPresent(FullNetwork.class));
         logger.info("Test environment setup completed");
     }
     
     /**
      * Teardown method that runs after each test method
+     * @param result Result of the test method that just ran
      */
-    @AfterMethod
-    public void tearDown() {
+    @AfterMethod(alwaysRun = true)
+    public void tearDown(ITestResult result) {
+        WebDriver driver = driverHolder.get();
         if (driver != null) {
-            logger.info("Closing browser and cleaning up");
-            driver.quit();
-            logger.info("Browser closed successfully");
+            NetworkProfile.reportTest(driver);
+            PerformanceRecorder.reportTest();
+            logger.info("Releasing browser and cleaning up");
+            DriverPool.release(driver, result.getStatus() == ITestResult.FAILURE);
+            driverHolder.remove();
         }
+        AdaptiveConcurrencyController.release(result.getMethod().getMethodName(), 
+                                              result.getEndMillis() - result.getStartMillis(), 
+                                              result.getThrowable());
+        ExtentReportManager.removeTest();
+        ThreadContext.remove("testName");
     }
     
     /**
@@ -73,6 +82,11 @@ public abstract class BaseTest {
      */
     @AfterSuite
     public void suiteTearDown() {
+        DriverPool.shutdown();
+        AdaptiveConcurrencyController.reportSummary();
+        NetworkProfile.reportSummary();
+        PerformanceRecorder.close();
+        WaitHistory.save();
         ExtentReportManager.flushReport();
         logger.info("=== Test Suite Completed ===");
     }
@@ -81,97 +95,19 @@ public abstract class BaseTest {
      * Load configuration from properties file or system properties
      */
     private void loadConfiguration() {
-        // Default values
-        browserName = System.getProperty("browser", "chrome").toLowerCase();
-        headless = Boolean.parseBoolean(System.getProperty("headless", "false"));
-        implicitWait = Integer.parseInt(System.getProperty("implicit.wait", "10"));
-        pageLoadTimeout = Integer.parseInt(System.getProperty("page.load.timeout", "30"));
-        
-        logger.info("Configuration loaded - Browser: {}, Headless: {}, ImplicitWait: {}s, PageLoadTimeout: {}s", 
-                   browserName, headless, implicitWait, pageLoadTimeout);
-    }
-    
-    /**
-     * Initialize WebDriver based on browser name
-     */
-    private void initializeDriver() {
-        logger.info("Initializing {} driver", browserName);
-        
-        try {
-            switch (browserName) {
-                case "chrome":
-                    WebDriverManager.chromedriver().setup();
-                    ChromeOptions chromeOptions = new ChromeOptions();
-                    if (headless) {
-                        chromeOptions.addArguments("--headless");
-                    }
-                    chromeOptions.addArguments("--no-sandbox");
-                    chromeOptions.addArguments("--disable-dev-shm-usage");
-                    chromeOptions.addArguments("--disable-gpu");
-                    chromeOptions.addArguments("--window-size=1920,1080");
-                    driver = new ChromeDriver(chromeOptions);
-                    break;
-                    
-                case "firefox":
-                    WebDriverManager.firefoxdriver().setup();
-                    FirefoxOptions firefoxOptions = new FirefoxOptions();
-                    if (headless) {
-                        firefoxOptions.addArguments("--headless");
-                    }
-                    firefoxOptions.addArguments("--width=1920");
-                    firefoxOptions.addArguments("--height=1080");
-                    driver = new FirefoxDriver(firefoxOptions);
-                    break;
-                    
-                case "edge":
-                    WebDriverManager.edgedriver().setup();
-                    EdgeOptions edgeOptions = new EdgeOptions();
-                    if (headless) {
-                        edgeOptions.addArguments("--headless");
-                    }
-                    edgeOptions.addArguments("--no-sandbox");
-                    edgeOptions.addArguments("--disable-dev-shm-usage");
-                    edgeOptions.addArguments("--window-size=1920,1080");
-                    driver = new EdgeDriver(edgeOptions);
-                    break;
-                    
-                default:
-                    logger.error("Unsupported browser: {}", browserName);
-                    throw new IllegalArgumentException("Unsupported browser: " + browserName);
-            }
-            
-            logger.info("{} driver initialized successfully", browserName);
-            
-        } catch (Exception e) {
-            logger.error("Failed to initialize {} driver", browserName, e);
-            throw new RuntimeException("Driver initialization failed", e);
-        }
-    }
-    
-    /**
-     * Configure WebDriver with timeouts and window settings
-     */
-    private void configureDriver() {
-        logger.info("Configuring driver settings");
-        
-        // Set timeouts
-        driver.manage().timeouts().implicitlyWait(Duration.ofSeconds(implicitWait));
-        driver.manage().timeouts().pageLoadTimeout(Duration.ofSeconds(pageLoadTimeout));
-        
-        // Maximize window if not headless
-        if (!headless) {
-            driver.manage().window().maximize();
-        }
-        
-        logger.info("Driver configuration completed");
+        logger.info("Configuration loaded - Browser: {}, Headless: {}, ImplicitWait: {}s, PageLoadTimeout: {}s, DriverPool: {}", 
+                   ConfigReader.getBrowser(), ConfigReader.isHeadless(), ConfigReader.getImplicitWait(), 
+                   ConfigReader.getPageLoadTimeout(), ConfigReader.isDriverPoolEnabled());
+        logger.info("Parallel execution: {}, Threads: {}", 
+                   ConfigReader.isParallelExecution(), ConfigReader.getThreadCount());
     }
     
     /**
-     * Get the current WebDriver instance
+     * Get the WebDriver instance of the current test thread
      * @return WebDriver instance
      */
     protected WebDriver getDriver() {
-        return driver;
+        return driverHolder.get();
     }
     
     /**
@@ -180,7 +116,7 @@ public abstract class BaseTest {
      */
     protected String takeScreenshot() {
         try {
-            return ((org.openqa.selenium.TakesScreenshot) driver)
+            return ((org.openqa.selenium.TakesScreenshot) getDriver())
                     .getScreenshotAs(org.openqa.selenium.OutputType.BASE64);
         } catch (Exception e) {
             logger.error("Failed to take screenshot", e);
@@ -194,6 +130,7 @@ public abstract class BaseTest {
      */
     protected void logStep(String stepDescription) {
         logger.info("Test Step: {}", stepDescription);
+        ExtentTest test = ExtentReportManager.getTest();
         if (test != null) {
             test.info(stepDescription);
         }
@@ -205,6 +142,7 @@ public abstract class BaseTest {
      */
     protected void logResult(String result) {
         logger.info("Test Result: {}", result);
+        ExtentTest test = ExtentReportManager.getTest();
         if (test != null) {
             test.pass(result);
         }
@@ -216,6 +154,7 @@ public abstract class BaseTest {
      */
     protected void logFailure(String failure) {
         logger.error("Test Failure: {}", failure);
+        ExtentTest test = ExtentReportManager.getTest();
         if (test != null) {
             test.fail(failure);
             // Add screenshot on failure
@@ -0,0 +1,135 @@
+package com.bstack.tests;
+
+import org.testng.annotations.*;
+import org.testng.Assert;
+import org.testng.IAnnotationTransformer;
+import org.testng.TestNG;
+import org.testng.xml.XmlClass;
+import org.testng.xml.XmlSuite;
+import org.testng.xml.XmlTest;
+import com.bstack.utils.DataFileProvider;
+import com.bstack.utils.TestDataProvider;
+import java.io.File;
+import java.io.IOException;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Method;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+
+/**
+ * Test class for the streaming data providers. Runs without a browser: it checks that rows
+ * are read from the data file one invocation at a time instead of all before the first test.
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class DataProviderTest {
+    
+    private static final int ROWS = 5;
+    
+    /**
+     * Test that every Iterator data provider is sequential, TestNG drains parallel ones up front
+     */
+    @Test(description = "Verify streaming data providers are not parallel")
+    public void testStreamingProvidersAreSequential() {
+        for (Method method : TestDataProvider.class.getDeclaredMethods()) {
+            DataProvider dataProvider = method.getAnnotation(DataProvider.class);
+            if (dataProvider != null && Iterator.class.isAssignableFrom(method.getReturnType())) {
+                Assert.assertFalse(dataProvider.parallel(),
+                        "Data provider " + dataProvider.name() + " streams rows and must not be parallel");
+            }
+        }
+    }
+    
+    /**
+     * Test that a file-backed provider reads row n only after row n-1 ran, in a parallel suite
+     * @throws IOException if the temporary data file cannot be written
+     */
+    @Test(description = "Verify file-backed rows are read lazily")
+    public void testRowsAreReadLazily() throws IOException {
+        File dataFile = File.createTempFile("lazy-rows", ".csv");
+        dataFile.deleteOnExit();
+        List<String> lines = new ArrayList<>();
+        lines.add("value");
+        for (int i = 0; i < ROWS; i++) {
+            lines.add(String.valueOf(i));
+        }
+        Files.write(dataFile.toPath(), lines, StandardCharsets.UTF_8);
+        
+        StreamingRows.dataFile = dataFile.getPath();
+        StreamingRows.events.clear();
+        runSuite(StreamingRows.class);
+        
+        List<String> events = new ArrayList<>(StreamingRows.events);
+        Assert.assertEquals(events.stream().filter(event -> event.startsWith("run ")).count(), ROWS,
+                "Every row should run: " + events);
+        for (int i = 1; i < ROWS; i++) {
+            Assert.assertTrue(events.indexOf("read " + i) > events.indexOf("run " + (i - 1)),
+                    "Row " + i + " should be read after row " + (i - 1) + " ran: " + events);
+        }
+    }
+    
+    /**
+     * Run a test class in its own suite, configured like ParallelExecutionListener does
+     * @param testClass Test class to run
+     */
+    private static void runSuite(Class<?> testClass) {
+        XmlSuite suite = new XmlSuite();
+        suite.setName("Data Provider Streaming");
+        suite.setParallel(XmlSuite.ParallelMode.METHODS);
+        suite.setThreadCount(4);
+        suite.setDataProviderThreadCount(4);
+        XmlTest test = new XmlTest(suite);
+        test.setName("Streaming Rows");
+        test.setXmlClasses(Collections.singletonList(new XmlClass(testClass)));
+        
+        TestNG testNG = new TestNG();
+        testNG.setXmlSuites(Collections.singletonList(suite));
+        testNG.setUseDefaultListeners(false);
+        // The fixture is disabled so the outer suite, which also picks up nested classes, skips it
+        testNG.addListener(new IAnnotationTransformer() {
+            @Override
+            public void transform(ITestAnnotation annotation, Class testClass, Constructor testConstructor, Method testMethod) {
+                annotation.setEnabled(true);
+            }
+        });
+        testNG.setVerbose(0);
+        testNG.run();
+    }
+    
+    /**
+     * Test class run by testRowsAreReadLazily, records when rows are read and when they run.
+     * Disabled unless enabled by the annotation transformer of runSuite
+     */
+    public static class StreamingRows {
+        static final List<String> events = Collections.synchronizedList(new ArrayList<>());
+        static String dataFile;
+        
+        @DataProvider(name = "rows")
+        public static Iterator<Object[]> rows() {
+            Iterator<Object[]> rows = DataFileProvider.stream(dataFile, "value");
+            return new Iterator<Object[]>() {
+                @Override
+                public boolean hasNext() {
+                    return rows.hasNext();
+                }
+                
+                @Override
+                public Object[] next() {
+                    Object[] row = rows.next();
+                    events.add("read " + row[0]);
+                    return row;
+                }
+            };
+        }
+        
+        @Test(dataProvider = "rows", enabled = false)
+        public void run(String value) {
+            events.add("run " + value);
+        }
+    }
+}
@@ -2,9 +2,12 @@ package com.bstack.tests;
 
 import org.testng.annotations.*;
 import org.testng.Assert;
-import com.bstack.pages.LoginPage;
 import com.bstack.pages.HomePage;
+import com.bstack.pages.PageObjectFactory;
+import com.bstack.pages.CartSnapshot;
 import com.bstack.pages.CheckoutPage;
+import com.bstack.pages.ProductCatalog;
+import com.bstack.pages.SessionVault;
 import com.bstack.utils.TestDataProvider;
 import com.bstack.utils.ExtentReportManager;
 import com.aventstack.extentreports.ExtentTest;
@@ -18,23 +21,18 @@ import com.aventstack.extentreports.ExtentTest;
  */
 public class ECommerceTest extends BaseTest {
     
-    private LoginPage loginPage;
-    private HomePage homePage;
-    private CheckoutPage checkoutPage;
+    private final ThreadLocal<HomePage> homePage = new ThreadLocal<>();
+    private final ThreadLocal<CheckoutPage> checkoutPage = new ThreadLocal<>();
     
     /**
      * Setup method to initialize page objects and login before each test
      */
     @BeforeMethod
     public void setUpTest() {
-        super.setUp();
-        loginPage = new LoginPage(driver);
-        homePage = new HomePage(driver);
-        checkoutPage = new CheckoutPage(driver);
+        checkoutPage.set(PageObjectFactory.getPage(getDriver(), CheckoutPage.class));
         
-        // Login before each test
-        loginPage.navigateToLoginPage();
-        homePage = loginPage.login("demouser");
+        // Login before each test, restoring the captured session when available
+        homePage.set(SessionVault.login(getDriver(), "demouser"));
     }
     
     /**
@@ -42,23 +40,24 @@ public class ECommerceTest extends BaseTest {
      */
     @Test(description = "Verify adding product to shopping cart")
     public void testAddProductToCart() {
-        test = ExtentReportManager.createTest("Test Add Product to Cart", 
-                                            "Verify user can add products to shopping cart", 
-                                            "Shopping Cart");
+        ExtentTest test = ExtentReportManager.createTest("Test Add Product to Cart", 
+                                                       "Verify user can add products to shopping cart", 
+                                                       "Shopping Cart");
         
         try {
             logStep("Verify initial cart state");
-            int initialCartCount = homePage.getCartQuantity();
+            int initialCartCount = homePage.get().getCartQuantity();
             
             logStep("Get product details before adding to cart");
-            String productTitle = homePage.getFirstProductTitle();
-            String productPrice = homePage.getFirstProductPrice();
+            String productTitle = homePage.get().getFirstProductTitle();
+            String productPrice = homePage.get().getFirstProductPrice();
             
             logStep("Add first product to cart");
-            homePage.addFirstProductToCart();
+            homePage.get().addFirstProductToCart();
             
             logStep("Verify product added to cart");
-            int updatedCartCount = homePage.getCartQuantity();
+            homePage.get().waitForCartQuantity(initialCartCount + 1);
+            int updatedCartCount = homePage.get().getCartQuantity();
             Assert.assertEquals(updatedCartCount, initialCartCount + 1, 
                               "Cart quantity should increase by 1");
             
@@ -78,19 +77,19 @@ public class ECommerceTest extends BaseTest {
      */
     @Test(description = "Verify adding multiple products to cart")
     public void testAddMultipleProductsToCart() {
-        test = ExtentReportManager.createTest("Test Add Multiple Products to Cart", 
-                                            "Verify user can add multiple products to shopping cart", 
-                                            "Shopping Cart");
+        ExtentTest test = ExtentReportManager.createTest("Test Add Multiple Products to Cart", 
+                                                       "Verify user can add multiple products to shopping cart", 
+                                                       "Shopping Cart");
         
         try {
             logStep("Add first product to cart");
-            homePage.addFirstProductToCart();
-            int cartCountAfterFirst = homePage.getCartQuantity();
+            homePage.get().addFirstProductToCart().waitForCartQuantity(1);
+            int cartCountAfterFirst = homePage.get().getCartQuantity();
             Assert.assertEquals(cartCountAfterFirst, 1, "Cart should have 1 item after first addition");
             
             logStep("Add same product again");
-            homePage.addFirstProductToCart();
-            int cartCountAfterSecond = homePage.getCartQuantity();
+            homePage.get().addFirstProductToCart().waitForCartQuantity(2);
+            int cartCountAfterSecond = homePage.get().getCartQuantity();
             Assert.assertEquals(cartCountAfterSecond, 2, "Cart should have 2 items after second addition");
             
             logResult("Successfully added multiple products to cart. Final count: " + cartCountAfterSecond);
@@ -110,38 +109,42 @@ public class ECommerceTest extends BaseTest {
     @Test(dataProvider = "productFilters", dataProviderClass = TestDataProvider.class,
           description = "Verify product filtering by brand")
     public void testProductFiltering(String filterBrand) {
-        test = ExtentReportManager.createTest("Test Product Filtering - " + filterBrand, 
-                                            "Verify products can be filtered by brand: " + filterBrand, 
-                                            "Product Filter");
+        ExtentTest test = ExtentReportManager.createTest("Test Product Filtering - " + filterBrand, 
+                                                       "Verify products can be filtered by brand: " + filterBrand, 
+                                                       "Product Filter");
         
         try {
             logStep("Get initial product count");
-            int initialProductCount = homePage.getProductCount();
+            int initialProductCount = homePage.get().getCatalog().size();
+            String initialProducts = homePage.get().getProductListSignature();
             
             logStep("Apply " + filterBrand + " filter");
             switch (filterBrand) {
                 case "Apple":
-                    homePage.filterByApple();
+                    homePage.get().filterByApple();
                     break;
                 case "Samsung":
-                    homePage.filterBySamsung();
+                    homePage.get().filterBySamsung();
                     break;
                 case "OnePlus":
-                    homePage.filterByOnePlus();
+                    homePage.get().filterByOnePlus();
                     break;
                 case "Google":
-                    homePage.filterByGoogle();
+                    homePage.get().filterByGoogle();
                     break;
             }
             
             // Wait for filter to apply
-            sleep(2000);
+            homePage.get().waitForProductListToChange(initialProducts);
             
             logStep("Verify filter applied");
-            int filteredProductCount = homePage.getProductCount();
+            ProductCatalog catalog = homePage.get().getCatalog();
+            int filteredProductCount = catalog.size();
             
             // Filter should change product count (either reduce or maintain based on availability)
             Assert.assertTrue(filteredProductCount > 0, "Filtered products should be displayed");
+            Assert.assertTrue(catalog.containsOnlyBrand(filterBrand), 
+                            "Only " + filterBrand + " products should be displayed, found brands: " + catalog.getBrands());
             
             logResult("Filter applied successfully. Initial count: " + initialProductCount + 
                      ", Filtered count: " + filteredProductCount);
@@ -159,25 +162,31 @@ public class ECommerceTest extends BaseTest {
      */
     @Test(description = "Verify product sorting functionality")
     public void testProductSorting() {
-        test = ExtentReportManager.createTest("Test Product Sorting", 
-                                            "Verify products can be sorted by price", 
-                                            "Product Sorting");
+        ExtentTest test = ExtentReportManager.createTest("Test Product Sorting", 
+                                                       "Verify products can be sorted by price", 
+                                                       "Product Sorting");
         
         try {
             logStep("Sort products by price: Low to High");
-            homePage.sortByPriceLowToHigh();
-            sleep(2000);
+            homePage.get().sortByPriceLowToHigh();
+            homePage.get().waitForSortOrder(true);
             
-            int productCount = homePage.getProductCount();
+            ProductCatalog ascending = homePage.get().getCatalog();
+            int productCount = ascending.size();
             Assert.assertTrue(productCount > 0, "Products should be displayed after sorting");
+            Assert.assertTrue(ascending.isSortedByPrice(true), "Products should be sorted lowest to highest");
             
             logStep("Sort products by price: High to Low");
-            homePage.sortByPriceHighToLow();
-            sleep(2000);
+            homePage.get().sortByPriceHighToLow();
+            homePage.get().waitForSortOrder(false);
             
-            int productCountAfterSort = homePage.getProductCount();
+            ProductCatalog descending = homePage.get().getCatalog();
+            int productCountAfterSort = descending.size();
             Assert.assertEquals(productCountAfterSort, productCount, 
                               "Product count should remain same after sorting");
+            Assert.assertTrue(descending.isSortedByPrice(false), "Products should be sorted highest to lowest");
+            Assert.assertEquals(descending.getHighestPrice(), ascending.getHighestPrice(), 
+                              "Highest price should remain same after sorting");
             
             logResult("Product sorting functionality verified successfully");
             test.pass("Product sorting verified successfully");
@@ -194,19 +203,20 @@ public class ECommerceTest extends BaseTest {
      */
     @Test(description = "Verify favourites functionality")
     public void testFavouritesFunctionality() {
-        test = ExtentReportManager.createTest("Test Favourites Functionality", 
-                                            "Verify user can add products to favourites and filter by favourites", 
-                                            "Favourites");
+        ExtentTest test = ExtentReportManager.createTest("Test Favourites Functionality", 
+                                                       "Verify user can add products to favourites and filter by favourites", 
+                                                       "Favourites");
         
         try {
             logStep("Add first product to favourites");
-            homePage.addFirstProductToFavourites();
+            homePage.get().addFirstProductToFavourites();
             
             logStep("Filter by favourites");
-            homePage.filterByFavourites();
-            sleep(2000);
+            String allProducts = homePage.get().getProductListSignature();
+            homePage.get().filterByFavourites();
+            homePage.get().waitForProductListToChange(allProducts);
             
-            int favouriteProductsCount = homePage.getProductCount();
+            int favouriteProductsCount = homePage.get().getProductCount();
             Assert.assertTrue(favouriteProductsCount > 0, "Favourite products should be displayed");
             
             logResult("Favourites functionality working correctly. Favourite products count: " + 
@@ -232,37 +242,37 @@ public class ECommerceTest extends BaseTest {
           description = "Verify complete checkout process")
     public void testCompleteCheckoutProcess(String firstName, String lastName, String address, 
                                           String state, String postalCode) {
-        test = ExtentReportManager.createTest("Test Complete Checkout Process", 
-                                            "Verify user can complete entire checkout process", 
-                                            "Checkout");
+        ExtentTest test = ExtentReportManager.createTest("Test Complete Checkout Process", 
+                                                       "Verify user can complete entire checkout process", 
+                                                       "Checkout");
         
         try {
             logStep("Add product to cart");
-            homePage.addFirstProductToCart();
-            int cartCount = homePage.getCartQuantity();
+            homePage.get().addFirstProductToCart().waitForCartQuantity(1);
+            int cartCount = homePage.get().getCartQuantity();
             Assert.assertEquals(cartCount, 1, "Cart should have 1 item");
             
             logStep("Navigate to checkout page");
-            checkoutPage = homePage.goToCart();
+            checkoutPage.set(homePage.get().goToCart());
             
             logStep("Verify cart items in checkout");
-            int checkoutItemCount = checkoutPage.getCartItemCount();
+            int checkoutItemCount = checkoutPage.get().getCartItemCount();
             Assert.assertEquals(checkoutItemCount, 1, "Checkout should show 1 item");
             
-            String itemTitle = checkoutPage.getCartItemTitle(0);
-            String itemPrice = checkoutPage.getCartItemPrice(0);
+            String itemTitle = checkoutPage.get().getCartItemTitle(0);
+            String itemPrice = checkoutPage.get().getCartItemPrice(0);
             Assert.assertFalse(itemTitle.isEmpty(), "Item title should not be empty");
             Assert.assertFalse(itemPrice.isEmpty(), "Item price should not be empty");
             
             logStep("Complete checkout with details: " + firstName + " " + lastName);
-            checkoutPage.completeCheckout(firstName, lastName, address, state, postalCode);
+            checkoutPage.get().completeCheckout(firstName, lastName, address, state, postalCode);
             
             // Wait for order processing
-            sleep(3000);
+            checkoutPage.get().waitForOrderConfirmation();
             
             logStep("Verify checkout completion");
-            // Note: Actual order confirmation verification depends on the application's behavior
-            // This is a placeholder for the verification logic
+            Assert.assertTrue(checkoutPage.get().isOrderConfirmationDisplayed(), 
+                            "Order confirmation should be displayed");
             
             logResult("Checkout process completed successfully for: " + firstName + " " + lastName);
             test.pass("Complete checkout process verified successfully");
@@ -279,25 +289,26 @@ public class ECommerceTest extends BaseTest {
      */
     @Test(description = "Verify cart item removal functionality")
     public void testRemoveItemFromCart() {
-        test = ExtentReportManager.createTest("Test Remove Item from Cart", 
-                                            "Verify user can remove items from shopping cart", 
-                                            "Shopping Cart");
+        ExtentTest test = ExtentReportManager.createTest("Test Remove Item from Cart", 
+                                                       "Verify user can remove items from shopping cart", 
+                                                       "Shopping Cart");
         
         try {
             logStep("Add product to cart");
-            homePage.addFirstProductToCart();
-            Assert.assertEquals(homePage.getCartQuantity(), 1, "Cart should have 1 item");
+            homePage.get().addFirstProductToCart().waitForCartQuantity(1);
+            Assert.assertEquals(homePage.get().getCartQuantity(), 1, "Cart should have 1 item");
             
             logStep("Navigate to checkout page");
-            checkoutPage = homePage.goToCart();
-            Assert.assertEquals(checkoutPage.getCartItemCount(), 1, "Checkout should show 1 item");
+            checkoutPage.set(homePage.get().goToCart());
+            Assert.assertEquals(checkoutPage.get().getCartItemCount(), 1, "Checkout should show 1 item");
+            checkoutPage.get().expectCartNotEmpty();
             
             logStep("Remove item from cart");
-            checkoutPage.removeCartItem(0);
-            sleep(2000);
+            checkoutPage.get().removeCartItem(0);
+            checkoutPage.get().waitForCartToBeEmpty();
             
             logStep("Verify item removed");
-            boolean isCartEmpty = checkoutPage.isCartEmpty();
+            boolean isCartEmpty = checkoutPage.get().isCartEmpty();
             Assert.assertTrue(isCartEmpty, "Cart should be empty after removing item");
             
             logResult("Item removed from cart successfully");
@@ -315,27 +326,30 @@ public class ECommerceTest extends BaseTest {
      */
     @Test(description = "Verify cart total calculation")
     public void testCartTotalCalculation() {
-        test = ExtentReportManager.createTest("Test Cart Total Calculation", 
-                                            "Verify cart total is calculated correctly", 
-                                            "Shopping Cart");
+        ExtentTest test = ExtentReportManager.createTest("Test Cart Total Calculation", 
+                                                       "Verify cart total is calculated correctly", 
+                                                       "Shopping Cart");
         
         try {
             logStep("Add multiple products to cart");
-            homePage.addFirstProductToCart();
-            homePage.addFirstProductToCart();
+            homePage.get().addFirstProductToCart();
+            homePage.get().addFirstProductToCart().waitForCartQuantity(2);
             
-            Assert.assertEquals(homePage.getCartQuantity(), 2, "Cart should have 2 items");
+            Assert.assertEquals(homePage.get().getCartQuantity(), 2, "Cart should have 2 items");
             
             logStep("Navigate to checkout and verify totals");
-            checkoutPage = homePage.goToCart();
+            checkoutPage.set(homePage.get().goToCart());
             
-            String subtotal = checkoutPage.getSubtotalAmount();
-            String total = checkoutPage.getTotalAmount();
+            CartSnapshot cart = checkoutPage.get().getCartSnapshot();
             
-            Assert.assertFalse(subtotal.isEmpty(), "Subtotal should not be empty");
-            Assert.assertFalse(total.isEmpty(), "Total should not be empty");
+            Assert.assertNotNull(cart.getSubtotal(), "Subtotal should not be empty");
+            Assert.assertNotNull(cart.getTotal(), "Total should not be empty");
+            Assert.assertEquals(cart.getTotalQuantity(), 2, "Cart should contain 2 units");
+            Assert.assertTrue(cart.isSubtotalConsistent(), 
+                            "Subtotal should equal the sum of the line items: " + cart);
             
-            logResult("Cart totals calculated correctly. Subtotal: " + subtotal + ", Total: " + total);
+            logResult("Cart totals calculated correctly. Subtotal: " + cart.getSubtotal() + 
+                     ", Total: " + cart.getTotal() + ", Computed: " + cart.getComputedTotal());
             test.pass("Cart total calculation verified successfully");
             
         } catch (Exception e) {
@@ -2,8 +2,11 @@ package com.bstack.tests;
 
 import org.testng.annotations.*;
 import org.testng.Assert;
+import com.bstack.pages.DomSnapshot;
 import com.bstack.pages.LoginPage;
 import com.bstack.pages.HomePage;
+import com.bstack.pages.PageObjectFactory;
+import com.bstack.pages.SessionVault;
 import com.bstack.utils.TestDataProvider;
 import com.bstack.utils.ExtentReportManager;
 import com.aventstack.extentreports.ExtentTest;
@@ -17,17 +20,16 @@ import com.aventstack.extentreports.ExtentTest;
  */
 public class LoginTest extends BaseTest {
     
-    private LoginPage loginPage;
-    private HomePage homePage;
+    private final ThreadLocal<LoginPage> loginPage = new ThreadLocal<>();
+    private final ThreadLocal<HomePage> homePage = new ThreadLocal<>();
     
     /**
      * Setup method to initialize page objects before each test
      */
     @BeforeMethod
     public void setUpTest() {
-        super.setUp();
-        loginPage = new LoginPage(driver);
-        homePage = new HomePage(driver);
+        loginPage.set(PageObjectFactory.getPage(getDriver(), LoginPage.class));
+        homePage.set(PageObjectFactory.getPage(getDriver(), HomePage.class));
     }
     
     /**
@@ -37,24 +39,25 @@ public class LoginTest extends BaseTest {
     @Test(dataProvider = "loginData", dataProviderClass = TestDataProvider.class,
           description = "Verify successful login with valid credentials")
     public void testSuccessfulLogin(String username) {
-        test = ExtentReportManager.createTest("Test Successful Login - " + username, 
-                                            "Verify user can login successfully with valid credentials", 
-                                            "Authentication");
+        ExtentTest test = ExtentReportManager.createTest("Test Successful Login - " + username, 
+                                                       "Verify user can login successfully with valid credentials", 
+                                                       "Authentication");
         
         try {
             logStep("Navigate to login page");
-            loginPage.navigateToLoginPage();
-            Assert.assertTrue(loginPage.isLoginPageDisplayed(), "Login page should be displayed");
+            loginPage.get().navigateToLoginPage();
+            Assert.assertTrue(loginPage.get().isLoginPageDisplayed(), "Login page should be displayed");
             test.pass("Successfully navigated to login page");
             
             logStep("Perform login with username: " + username);
-            homePage = loginPage.login(username);
+            homePage.set(loginPage.get().login(username));
             
             logStep("Verify successful login");
-            Assert.assertTrue(homePage.isUserLoggedIn(), "User should be logged in");
-            Assert.assertTrue(homePage.isHomePageDisplayed(), "Home page should be displayed");
+            loginPage.get().expectNoErrorMessage();
+            Assert.assertTrue(homePage.get().isUserLoggedIn(), "User should be logged in");
+            Assert.assertTrue(homePage.get().isHomePageDisplayed(), "Home page should be displayed");
             
-            String loggedInUser = homePage.getLoggedInUsername();
+            String loggedInUser = homePage.get().getLoggedInUsername();
             Assert.assertFalse(loggedInUser.isEmpty(), "Logged in username should not be empty");
             
             logResult("Login successful for user: " + username + ", Logged in as: " + loggedInUser);
@@ -72,19 +75,20 @@ public class LoginTest extends BaseTest {
      */
     @Test(description = "Verify login page navigation and UI elements")
     public void testLoginPageNavigation() {
-        test = ExtentReportManager.createTest("Test Login Page Navigation", 
-                                            "Verify login page loads correctly with all elements visible", 
-                                            "UI");
+        ExtentTest test = ExtentReportManager.createTest("Test Login Page Navigation", 
+                                                       "Verify login page loads correctly with all elements visible", 
+                                                       "UI");
         
         try {
             logStep("Navigate to login page");
-            loginPage.navigateToLoginPage();
+            loginPage.get().navigateToLoginPage();
             
             logStep("Verify login page elements");
-            Assert.assertTrue(loginPage.isLoginPageDisplayed(), "Login page header should be visible");
-            Assert.assertTrue(loginPage.isOnLoginPage(), "Should be on correct login page URL");
+            DomSnapshot snapshot = loginPage.get().captureDomSnapshot();
+            Assert.assertTrue(loginPage.get().isLoginFormDisplayed(snapshot), "Login page header and form should be visible");
+            Assert.assertTrue(snapshot.getUrl().contains("signin"), "Should be on correct login page URL");
             
-            String pageTitle = loginPage.getLoginPageTitle();
+            String pageTitle = snapshot.getTitle();
             Assert.assertFalse(pageTitle.isEmpty(), "Page title should not be empty");
             
             logResult("Login page loaded successfully with title: " + pageTitle);
@@ -102,9 +106,9 @@ public class LoginTest extends BaseTest {
      */
     @Test(description = "Verify login with different user types")
     public void testLoginWithDifferentUserTypes() {
-        test = ExtentReportManager.createTest("Test Login with Different User Types", 
-                                            "Verify login works with different predefined user types", 
-                                            "Authentication");
+        ExtentTest test = ExtentReportManager.createTest("Test Login with Different User Types", 
+                                                       "Verify login works with different predefined user types", 
+                                                       "Authentication");
         
         String[] userTypes = {"demouser", "fav_user", "existing_orders_user"};
         
@@ -113,21 +117,21 @@ public class LoginTest extends BaseTest {
                 logStep("Testing login with user type: " + userType);
                 
                 // Navigate to login page
-                loginPage.navigateToLoginPage();
+                loginPage.get().navigateToLoginPage();
                 
                 // Perform login
-                homePage = loginPage.login(userType);
+                homePage.set(loginPage.get().login(userType));
                 
                 // Verify login
-                Assert.assertTrue(homePage.isUserLoggedIn(), 
+                Assert.assertTrue(homePage.get().isUserLoggedIn(), 
                                 "User should be logged in for user type: " + userType);
                 
-                String loggedInUser = homePage.getLoggedInUsername();
+                String loggedInUser = homePage.get().getLoggedInUsername();
                 test.pass("Successfully logged in as: " + loggedInUser + " for user type: " + userType);
                 
                 // Logout for next iteration
-                loginPage = homePage.logout();
-                Assert.assertTrue(loginPage.isLoginPageDisplayed(), 
+                loginPage.set(homePage.get().logout());
+                Assert.assertTrue(loginPage.get().isLoginPageDisplayed(), 
                                 "Should return to login page after logout");
                 
                 logResult("Login/logout cycle completed for user type: " + userType);
@@ -145,22 +149,21 @@ public class LoginTest extends BaseTest {
      */
     @Test(description = "Verify logout functionality")
     public void testLogout() {
-        test = ExtentReportManager.createTest("Test Logout Functionality", 
-                                            "Verify user can logout successfully", 
-                                            "Authentication");
+        ExtentTest test = ExtentReportManager.createTest("Test Logout Functionality", 
+                                                       "Verify user can logout successfully", 
+                                                       "Authentication");
         
         try {
             logStep("Login with valid credentials");
-            loginPage.navigateToLoginPage();
-            homePage = loginPage.login("demouser");
-            Assert.assertTrue(homePage.isUserLoggedIn(), "User should be logged in");
+            homePage.set(SessionVault.login(getDriver(), "demouser"));
+            Assert.assertTrue(homePage.get().isUserLoggedIn(), "User should be logged in");
             
             logStep("Perform logout");
-            loginPage = homePage.logout();
+            loginPage.set(homePage.get().logout());
             
             logStep("Verify logout");
-            Assert.assertTrue(loginPage.isLoginPageDisplayed(), "Should return to login page");
-            Assert.assertTrue(loginPage.isOnLoginPage(), "Should be on correct login page URL");
+            Assert.assertTrue(loginPage.get().isLoginPageDisplayed(), "Should return to login page");
+            Assert.assertTrue(loginPage.get().isOnLoginPage(), "Should be on correct login page URL");
             
             logResult("Logout completed successfully");
             test.pass("User successfully logged out");
@@ -177,27 +180,27 @@ public class LoginTest extends BaseTest {
      */
     @Test(description = "Verify login form validation")
     public void testLoginFormValidation() {
-        test = ExtentReportManager.createTest("Test Login Form Validation", 
-                                            "Verify login form handles validation correctly", 
-                                            "Validation");
+        ExtentTest test = ExtentReportManager.createTest("Test Login Form Validation", 
+                                                       "Verify login form handles validation correctly", 
+                                                       "Validation");
         
         try {
             logStep("Navigate to login page");
-            loginPage.navigateToLoginPage();
+            loginPage.get().navigateToLoginPage();
             
             logStep("Test form validation without selecting credentials");
             // Try to click login without selecting username/password
-            loginPage.clickLoginButton();
+            loginPage.get().clickLoginButton();
             
             // Should remain on login page
-            Assert.assertTrue(loginPage.isOnLoginPage(), "Should remain on login page without valid credentials");
+            Assert.assertTrue(loginPage.get().isOnLoginPage(), "Should remain on login page without valid credentials");
             
             logStep("Test username selection only");
-            loginPage.selectUsername("demouser");
-            loginPage.clickLoginButton();
+            loginPage.get().selectUsername("demouser");
+            loginPage.get().clickLoginButton();
             
             // Should still remain on login page without password
-            Assert.assertTrue(loginPage.isOnLoginPage(), "Should remain on login page without password");
+            Assert.assertTrue(loginPage.get().isOnLoginPage(), "Should remain on login page without password");
             
             logResult("Login form validation working correctly");
             test.pass("Form validation verified successfully");
@@ -214,19 +217,19 @@ public class LoginTest extends BaseTest {
      */
     @Test(description = "Verify login page URL accessibility")
     public void testLoginPageUrlAccessibility() {
-        test = ExtentReportManager.createTest("Test Login Page URL Accessibility", 
-                                            "Verify login page is accessible via direct URL", 
-                                            "Accessibility");
+        ExtentTest test = ExtentReportManager.createTest("Test Login Page URL Accessibility", 
+                                                       "Verify login page is accessible via direct URL", 
+                                                       "Accessibility");
         
         try {
             logStep("Access login page via direct URL");
-            driver.get("https://bstackdemo.com/signin");
+            getDriver().get("https://bstackdemo.com/signin");
             
             logStep("Verify page loads correctly");
-            Assert.assertTrue(loginPage.isLoginPageDisplayed(), "Login page should load correctly");
-            Assert.assertTrue(loginPage.isOnLoginPage(), "Should be on correct login page");
+            Assert.assertTrue(loginPage.get().isLoginPageDisplayed(), "Login page should load correctly");
+            Assert.assertTrue(loginPage.get().isOnLoginPage(), "Should be on correct login page");
             
-            String currentUrl = driver.getCurrentUrl();
+            String currentUrl = getDriver().getCurrentUrl();
             Assert.assertTrue(currentUrl.contains("signin"), "URL should contain 'signin'");
             
             logResult("Login page accessible via direct URL: " + currentUrl);
@@ -244,25 +247,25 @@ public class LoginTest extends BaseTest {
      */
     @Test(description = "Verify login session persistence")
     public void testLoginSessionPersistence() {
-        test = ExtentReportManager.createTest("Test Login Session Persistence", 
-                                            "Verify user remains logged in when navigating", 
-                                            "Session");
+        ExtentTest test = ExtentReportManager.createTest("Test Login Session Persistence", 
+                                                       "Verify user remains logged in when navigating", 
+                                                       "Session");
         
         try {
             logStep("Login with valid credentials");
-            loginPage.navigateToLoginPage();
-            homePage = loginPage.login("demouser");
-            Assert.assertTrue(homePage.isUserLoggedIn(), "User should be logged in");
+            loginPage.get().navigateToLoginPage();
+            homePage.set(loginPage.get().login("demouser"));
+            Assert.assertTrue(homePage.get().isUserLoggedIn(), "User should be logged in");
             
-            String initialUser = homePage.getLoggedInUsername();
+            String initialUser = homePage.get().getLoggedInUsername();
             
             logStep("Navigate to different page and back");
-            driver.get("https://bstackdemo.com/");
+            getDriver().get("https://bstackdemo.com/");
             
             logStep("Verify user is still logged in");
-            Assert.assertTrue(homePage.isUserLoggedIn(), "User should still be logged in");
+            Assert.assertTrue(homePage.get().isUserLoggedIn(), "User should still be logged in");
             
-            String persistentUser = homePage.getLoggedInUsername();
+            String persistentUser = homePage.get().getLoggedInUsername();
             Assert.assertEquals(persistentUser, initialUser, "Username should remain same");
             
             logResult("Login session persisted correctly for user: " + persistentUser);
@@ -0,0 +1,116 @@
+package com.bstack.tests;
+
+import org.testng.annotations.*;
+import org.testng.Assert;
+import org.openqa.selenium.By;
+import org.openqa.selenium.support.FindBy;
+import com.bstack.pages.CheckoutPage;
+import com.bstack.pages.HomePage;
+import com.bstack.pages.LoginPage;
+import com.bstack.pages.XPathToCss;
+import java.lang.reflect.Field;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Test class for the XPath to CSS compiler. Runs without a browser: it checks the compiled
+ * form of every @FindBy XPath of the page classes and the XPaths that must keep their XPath.
+ * 
+ * @author Test Automation Engineer
+ * @version 1.0
+ */
+public class XPathToCssTest {
+    
+    // Every @FindBy XPath of the page classes with its expected CSS, null where it must stay an XPath
+    private static final Map<String, String> PAGE_LOCATORS = new LinkedHashMap<>();
+    
+    static {
+        PAGE_LOCATORS.put("//div[@class='shelf-item']", "div[class='shelf-item']");
+        PAGE_LOCATORS.put("//div[@class='shelf-item__price']", "div[class='shelf-item__price']");
+        PAGE_LOCATORS.put("//p[@class='shelf-item__title']", "p[class='shelf-item__title']");
+        PAGE_LOCATORS.put("//button[@class='shelf-item__del']", "button[class='shelf-item__del']");
+        PAGE_LOCATORS.put("//div[@class='float-cart__content']//div[@class='shelf-item']",
+                "div[class='float-cart__content'] div[class='shelf-item']");
+        PAGE_LOCATORS.put("//div[@class='optimizedCheckout-contentPrimary']//h1",
+                "div[class='optimizedCheckout-contentPrimary'] h1");
+        PAGE_LOCATORS.put("//p[contains(@class,'total-price')]/span", "p[class*='total-price'] > span");
+        PAGE_LOCATORS.put("//div[@class='shelf-item'][1]//div[@class='shelf-item__buy-btn']", null);
+        PAGE_LOCATORS.put("//div[@class='shelf-item'][1]//div[@class='shelf-item__favourite']", null);
+        PAGE_LOCATORS.put("//div[@class='shelf-item'][1]//div[@class='shelf-item__price']", null);
+        PAGE_LOCATORS.put("//div[@class='shelf-item'][1]//p[@class='shelf-item__title']", null);
+        PAGE_LOCATORS.put("//div[@class='password-dropdown']//div[text()='testingisfun99']", null);
+        PAGE_LOCATORS.put("//div[@class='username-dropdown']//div[text()='demouser']", null);
+        PAGE_LOCATORS.put("//div[@class='username-dropdown']//div[text()='existing_orders_user']", null);
+        PAGE_LOCATORS.put("//div[@class='username-dropdown']//div[text()='fav_user']", null);
+        PAGE_LOCATORS.put("//div[@class='username-dropdown']//div[text()='image_not_loading_user']", null);
+        PAGE_LOCATORS.put("//h2[text()='StackDemo']", null);
+        PAGE_LOCATORS.put("//h3[text()='Login']", null);
+        PAGE_LOCATORS.put("//option[text()='Highest to lowest']", null);
+        PAGE_LOCATORS.put("//option[text()='Lowest to highest']", null);
+        PAGE_LOCATORS.put("//span[text()='Apple']", null);
+        PAGE_LOCATORS.put("//span[text()='Favourites']", null);
+        PAGE_LOCATORS.put("//span[text()='Google']", null);
+        PAGE_LOCATORS.put("//span[text()='OnePlus']", null);
+        PAGE_LOCATORS.put("//span[text()='Samsung']", null);
+    }
+    
+    /**
+     * Test that every @FindBy XPath of the page classes compiles to its expected CSS
+     */
+    @Test(description = "Verify page locators compile to the expected CSS")
+    public void testPageLocators() {
+        for (Class<?> pageClass : new Class<?>[] {HomePage.class, LoginPage.class, CheckoutPage.class}) {
+            for (Field field : pageClass.getDeclaredFields()) {
+                FindBy findBy = field.getAnnotation(FindBy.class);
+                if (findBy == null || findBy.xpath().isEmpty()) {
+                    continue;
+                }
+                String xpath = findBy.xpath();
+                Assert.assertTrue(PAGE_LOCATORS.containsKey(xpath),
+                        pageClass.getSimpleName() + "." + field.getName() + " has no expected CSS: " + xpath);
+                Assert.assertEquals(XPathToCss.compile(xpath), PAGE_LOCATORS.get(xpath), "Compiled " + xpath);
+            }
+        }
+    }
+    
+    /**
+     * Test that XPaths without an exact CSS equivalent are not compiled
+     */
+    @Test(description = "Verify XPaths without an exact CSS equivalent keep the XPath")
+    public void testRejectedXPaths() {
+        String[] rejected = {
+            "//div[@class='shelf-item'][1]",
+            "//span[text()='Apple']",
+            "//div[@class='a' or @class='b']",
+            "//div[contains(@class,'')]",
+            "//div[starts-with(@class,'')]",
+            "//input[@type='Text']",
+            "//input[@TYPE='text']",
+            "//input[contains(@type,'text')]",
+            "//form[@method='post']",
+            "//html[starts-with(@lang,'en')]",
+            "//div/following-sibling::div",
+            "//div | //span",
+            "div[@class='shelf-item']"
+        };
+        for (String xpath : rejected) {
+            Assert.assertNull(XPathToCss.compile(xpath), "Should keep the XPath: " + xpath);
+        }
+    }
+    
+    /**
+     * Test the supported predicate forms and that only XPath locators are compiled
+     */
+    @Test(description = "Verify supported predicates compile and other locators are left alone")
+    public void testSupportedForms() {
+        Assert.assertEquals(XPathToCss.compile("//input[@type]"), "input[type]");
+        Assert.assertEquals(XPathToCss.compile("//input[@id='username' and @name='user']"),
+                "input[id='username'][name='user']");
+        Assert.assertEquals(XPathToCss.compile("//div[starts-with(@class,'shelf')]/*"), "div[class^='shelf'] > *");
+        Assert.assertEquals(XPathToCss.compile("//a[@title=\"it's\"]"), "a[title='it\\'s']");
+        Assert.assertEquals(XPathToCss.compile(By.xpath("//div[@class='shelf-item']")),
+                By.cssSelector("div[class='shelf-item']"));
+        Assert.assertNull(XPathToCss.compile(By.id("username")));
+        Assert.assertNull(XPathToCss.compile(By.xpath("//input[@type='text']")));
+    }
+}